@@ -0,0 +1,135 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the CharDynamicArray class.
+ * They mirror DynamicArrayTest, using unboxed chars instead of Character.
+ */
+public class CharDynamicArrayTest {
+
+    // Helper: builds array from string
+    public CharDynamicArray stringToArray(String s) {
+        CharDynamicArray result = new CharDynamicArray(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    // Compare contents
+    public void compareToString(CharDynamicArray arr, String s) {
+        assertEquals(s, new String(arr.toArray()));
+    }
+
+    // ~*~ Constructor ~*~
+    @Test
+    public void testConstructor() {
+        assertEquals(0, new CharDynamicArray(5).size());
+        assertEquals(0, new CharDynamicArray(0).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> new CharDynamicArray(-1));
+
+        CharDynamicArray original = stringToArray("abc");
+        CharDynamicArray copy = new CharDynamicArray(original);
+        copy.set(0, 'z');
+        compareToString(original, "abc");
+        compareToString(copy, "zbc");
+    }
+
+    // ~*~ Get / Set ~*~
+    @Test
+    public void testGetSet() {
+        CharDynamicArray arr = stringToArray("abc");
+        assertEquals('b', arr.get(1));
+        assertEquals('b', arr.set(1, 'x'));
+        compareToString(arr, "axc");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.set(-1, 'q'));
+    }
+
+    // ~*~ Add ~*~
+    @Test
+    public void testAdd() {
+        CharDynamicArray arr = new CharDynamicArray(0);
+        arr.add('b');
+        arr.add(0, 'a');
+        arr.add(2, 'd');
+        arr.add(2, 'c');
+        compareToString(arr, "abcd");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.add(5, 'e'));
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.add(-1, 'e'));
+    }
+
+    // ~*~ Remove ~*~
+    @Test
+    public void testRemove() {
+        CharDynamicArray arr = stringToArray("abcd");
+        assertEquals('c', arr.remove(2));
+        compareToString(arr, "abd");
+        assertEquals('a', arr.remove(0));
+        compareToString(arr, "bd");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.remove(2));
+    }
+
+    // ~*~ Group 3 ~*~
+    @Test
+    public void testAppendInsert() {
+        compareToString(stringToArray("abcdef").append(stringToArray("wxyz")), "abcdefwxyz");
+        compareToString(stringToArray("abcdef").insert(3, stringToArray("wxyz")), "abcwxyzdef");
+        compareToString(stringToArray("wxyz").insert(2, stringToArray("wxyz")), "wxwxyzyz");
+        compareToString(stringToArray("").insert(0, stringToArray("")), "");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> stringToArray("abcdef").insert(7, stringToArray("wxyz")));
+    }
+
+    @Test
+    public void testSublistDelete() {
+        compareToString(stringToArray("abcdef").sublist(1, 4), "bcd");
+        compareToString(stringToArray("abcdef").delete(2, 4), "abef");
+        compareToString(stringToArray("abcdef").delete(0, 6), "");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> stringToArray("abcdef").sublist(4, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> stringToArray("abcdef").delete(0, 7));
+    }
+
+    @Test
+    public void testExtractAndSplits() {
+        CharDynamicArray arr = stringToArray("abcdef");
+        compareToString(arr.extract(2, 5), "cde");
+        compareToString(arr, "abf");
+
+        CharDynamicArray arr2 = stringToArray("abcdef");
+        compareToString(arr2.splitPrefix(2), "ab");
+        compareToString(arr2, "cdef");
+
+        CharDynamicArray arr3 = stringToArray("abcdef");
+        compareToString(arr3.splitSuffix(2), "cdef");
+        compareToString(arr3, "ab");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> stringToArray("abcdef").extract(5, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> stringToArray("abcdef").splitPrefix(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> stringToArray("abcdef").splitSuffix(-1));
+    }
+
+    // ~*~ ToString ~*~
+    @Test
+    public void testToStringFormat() {
+        assertEquals("[a, b, c, d, e, f]", stringToArray("abcdef").toString());
+        assertEquals("[]", stringToArray("").toString());
+    }
+
+    // ~*~ Equality ~*~
+    @Test
+    public void testEqualsAndMismatch() {
+        assertEquals(stringToArray("abc"), stringToArray("abc"));
+        assertEquals(stringToArray("abc").hashCode(), stringToArray("abc").hashCode());
+        assertNotEquals(stringToArray("abc"), stringToArray("abd"));
+        assertEquals(2, stringToArray("abc").mismatch(stringToArray("abd")));
+        assertTrue(stringToArray("abc").compareRange(0, 3, stringToArray("abd"), 0, 3) < 0);
+        CharDynamicArray arr = stringToArray("abcdef");
+        arr.fill(1, 3, 'x');
+        compareToString(arr, "axxdef");
+    }
+}
@@ -0,0 +1,527 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+
+/**
+ * A thread-safe dynamic array built for many concurrent appenders.
+ * <p>
+ * Elements live in segments of doubling length that are allocated on demand and never
+ * copied once published, so growth never stops other threads. add(J) is lock-free: it
+ * claims the first empty slot by writing its value there with a single compare-and-set,
+ * then moves the published watermark past that slot. Every slot below a claimed one is
+ * already filled, so any appender can move the watermark on behalf of slower ones and no
+ * append ever waits for another to finish. size() is the watermark, so it always covers a
+ * gap-free prefix. The segment for a slot is allocated before the slot is claimed, so an
+ * append that fails to allocate leaves nothing half done. get and size never block.
+ * <p>
+ * Every other mutation (add at an index, remove, extract and the splits) shifts elements.
+ * These run one at a time. Each first freezes the array by claiming the next empty slot
+ * with a marker, which stops appends from landing past it; appends that reach the marker
+ * wait until the mutation publishes its new storage. The new storage shares the segments
+ * before the edit by reference and rebuilds only the segments from the one holding the
+ * edit to the end. set holds the read side of the lock stripe of its element's segment,
+ * and a mutation takes the write side of the stripes of the segments it rebuilds, so sets
+ * before the edit carry on while it runs. Shifting mutations therefore block appends
+ * briefly, and they are striped by segment rather than by exact index range.
+ * @param <J> the type of elements stored in the array
+ */
+public class ConcurrentDynamicArray<J> implements DynamicArrayADT<J> {
+    private static final int FIRST_SEGMENT_BITS = 4;
+    private static final int SEGMENT_COUNT = Integer.SIZE - FIRST_SEGMENT_BITS;
+    private static final int MAX_SIZE = Integer.MAX_VALUE - (1 << FIRST_SEGMENT_BITS);
+
+    /**
+     * How many times an append that meets a frozen storage spins before it starts yielding,
+     * in case the mutating thread has been descheduled.
+     */
+    private static final int FROZEN_SPINS = 64;
+
+    /**
+     * Stored in place of null, so that an empty slot can be told apart from a null element.
+     */
+    private static final Object NULL_ITEM = new Object();
+
+    /**
+     * Claimed by a shifting mutation to stop appends at the end of the storage it replaces.
+     */
+    private static final Object FROZEN = new Object();
+
+    /**
+     * One generation of storage. Shifting mutations replace it rather than shift it in place,
+     * so a reader that loaded it sees a consistent array.
+     */
+    private static final class Storage {
+        final AtomicReferenceArray<AtomicReferenceArray<Object>> segments =
+                new AtomicReferenceArray<>(SEGMENT_COUNT);
+        final AtomicInteger published = new AtomicInteger();
+        final IntFunction<AtomicReferenceArray<Object>> newSegment;
+
+        Storage(IntFunction<AtomicReferenceArray<Object>> newSegment) {
+            this.newSegment = newSegment;
+        }
+
+        /**
+         * Returns the segment holding a slot, allocating it if no thread has yet.
+         */
+        AtomicReferenceArray<Object> segmentFor(int index) {
+            int segment = segmentOf(index);
+            AtomicReferenceArray<Object> slots = segments.get(segment);
+            if (slots == null) {
+                AtomicReferenceArray<Object> fresh = newSegment.apply(1 << (segment + FIRST_SEGMENT_BITS));
+                slots = segments.compareAndSet(segment, null, fresh) ? fresh : segments.get(segment);
+            }
+            return slots;
+        }
+
+        /**
+         * Stores item in the first empty slot at or after the watermark and returns its index,
+         * or returns -1 if the storage is frozen. Slots at or past limit are never claimed.
+         */
+        int claim(Object item, int limit) {
+            for (int i = published.get(); ; i++) {
+                if (i >= limit) {
+                    throw new OutOfMemoryError("ConcurrentDynamicArray is full.");
+                }
+                AtomicReferenceArray<Object> slots = segmentFor(i);
+                Object current = slots.get(offsetOf(i));
+                if (current == null) {
+                    if (slots.compareAndSet(offsetOf(i), null, item)) {
+                        return i;
+                    }
+                    current = slots.get(offsetOf(i));
+                }
+                if (current == FROZEN) {
+                    return -1;
+                }
+            }
+        }
+
+        /**
+         * Moves the watermark past index. Every slot below a claimed one is filled, so this
+         * never waits for another thread.
+         */
+        void publishThrough(int index) {
+            int p;
+            while ((p = published.get()) <= index && !published.compareAndSet(p, index + 1)) {
+                Thread.onSpinWait();
+            }
+        }
+
+        /**
+         * Stops appends at the first empty slot and returns its index, which is the final
+         * length of this storage unless it is thawed again.
+         */
+        int freeze() {
+            int length = claim(FROZEN, MAX_SIZE + 1);
+            publishThrough(length - 1);
+            return length;
+        }
+
+        void thaw(int length) {
+            segmentFor(length).set(offsetOf(length), null);
+        }
+
+        Object get(int index) {
+            Object item = segmentFor(index).get(offsetOf(index));
+            return item == NULL_ITEM ? null : item;
+        }
+    }
+
+    private volatile Storage storage;
+    private final ReentrantLock mutationLock = new ReentrantLock();
+    private final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[SEGMENT_COUNT];
+
+    /**
+     * Allocates segments. Tests replace it to make an allocation fail.
+     */
+    IntFunction<AtomicReferenceArray<Object>> newSegment = AtomicReferenceArray::new;
+
+    /**
+     * Constructs an empty ConcurrentDynamicArray.
+     * Segments are allocated as they fill, so initialCapacity only sets how many are created up front.
+     * @param initialCapacity the initial capacity of the array
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public ConcurrentDynamicArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new ArrayIndexOutOfBoundsException("Initial capacity cannot be negative.");
+        }
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            stripes[i] = new ReentrantReadWriteLock();
+        }
+        storage = newStorage();
+        if (initialCapacity > 0) {
+            int lastSegment = segmentOf(Math.min(initialCapacity, MAX_SIZE) - 1);
+            for (int segment = 0; segment <= lastSegment; segment++) {
+                storage.segmentFor(segmentStart(segment));
+            }
+        }
+    }
+
+    private ConcurrentDynamicArray(Object[] items, int length) {
+        this(0);
+        Storage fresh = newStorage();
+        for (int i = 0; i < length; i++) {
+            fresh.segmentFor(i).lazySet(offsetOf(i), itemOf(items[i]));
+        }
+        fresh.published.set(length);
+        storage = fresh;
+    }
+
+    private Storage newStorage() {
+        return new Storage(length -> newSegment.apply(length));
+    }
+
+    private static Object itemOf(Object value) {
+        return value == null ? NULL_ITEM : value;
+    }
+
+    // ~*~ Segment layout ~*~
+
+    /**
+     * Returns which segment holds an index. Segment k holds 2^(k + FIRST_SEGMENT_BITS) slots.
+     */
+    private static int segmentOf(int index) {
+        int position = index + (1 << FIRST_SEGMENT_BITS);
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position) - FIRST_SEGMENT_BITS;
+    }
+
+    /**
+     * Returns where an index falls inside its segment.
+     */
+    private static int offsetOf(int index) {
+        int position = index + (1 << FIRST_SEGMENT_BITS);
+        return position - Integer.highestOneBit(position);
+    }
+
+    /**
+     * Returns the first index held by a segment.
+     */
+    private static int segmentStart(int segment) {
+        return (1 << (segment + FIRST_SEGMENT_BITS)) - (1 << FIRST_SEGMENT_BITS);
+    }
+
+    /**
+     * Returns a storage holding the first length elements of s with the elements [from, to)
+     * replaced by inserted. The segments wholly before from are shared with s; the rest are rebuilt.
+     */
+    private Storage splice(Storage s, int length, int from, int to, Object[] inserted) {
+        int newLength = length - (to - from) + inserted.length;
+        Storage fresh = newStorage();
+        int firstRebuilt = segmentOf(from);
+        for (int segment = 0; segment < firstRebuilt; segment++) {
+            fresh.segments.lazySet(segment, s.segments.get(segment));
+        }
+        int shift = (to - from) - inserted.length;
+        for (int i = segmentStart(firstRebuilt); i < newLength; i++) {
+            Object item;
+            if (i < from) {
+                item = s.segmentFor(i).get(offsetOf(i));
+            } else if (i < from + inserted.length) {
+                item = itemOf(inserted[i - from]);
+            } else {
+                item = s.segmentFor(i + shift).get(offsetOf(i + shift));
+            }
+            fresh.segmentFor(i).lazySet(offsetOf(i), item);
+        }
+        fresh.published.set(newLength);
+        return fresh;
+    }
+
+    /**
+     * Returns the published elements of the current storage.
+     */
+    private Object[] snapshot(int extraCapacity) {
+        Storage s = storage;
+        int length = s.published.get();
+        Object[] items = new Object[length + extraCapacity];
+        for (int i = 0; i < length; i++) {
+            items[i] = s.get(i);
+        }
+        return items;
+    }
+
+    private static <J> Object[] itemsOf(DynamicArrayADT<J> other) {
+        if (other instanceof ConcurrentDynamicArray) {
+            return ((ConcurrentDynamicArray<J>) other).snapshot(0);
+        }
+        Object[] items = new Object[other.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = other.get(i);
+        }
+        return items;
+    }
+
+    // ~*~ Shifting mutations ~*~
+
+    /**
+     * Returns the range [from, to) a shifting mutation replaces, given the frozen length.
+     */
+    private interface RangeOf {
+        int[] at(int length);
+    }
+
+    /**
+     * Freezes the current storage, replaces the range picked by range with inserted in a new
+     * storage and publishes it. Returns the elements that were replaced. If range throws,
+     * the storage is thawed and nothing changes.
+     */
+    private Object[] replaceRange(RangeOf range, Object[] inserted) {
+        mutationLock.lock();
+        try {
+            Storage s = storage;
+            int length = s.freeze();
+            boolean replaced = false;
+            try {
+                int[] fromTo = range.at(length);
+                int from = fromTo[0];
+                int to = fromTo[1];
+                int firstStripe = segmentOf(from);
+                for (int k = firstStripe; k < SEGMENT_COUNT; k++) {
+                    stripes[k].writeLock().lock();
+                }
+                try {
+                    Object[] removed = new Object[to - from];
+                    for (int i = 0; i < removed.length; i++) {
+                        removed[i] = s.get(from + i);
+                    }
+                    storage = splice(s, length, from, to, inserted);
+                    replaced = true;
+                    return removed;
+                } finally {
+                    for (int k = SEGMENT_COUNT - 1; k >= firstStripe; k--) {
+                        stripes[k].writeLock().unlock();
+                    }
+                }
+            } finally {
+                if (!replaced) {
+                    s.thaw(length);
+                }
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+    }
+
+    private static int[] checkedRange(int fromIndex, int toIndex, int length) {
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+        return new int[] {fromIndex, toIndex};
+    }
+
+    // ~*~ DynamicArrayADT ~*~
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J get(int index) {
+        Storage s = storage;
+        if (index < 0 || index >= s.published.get()) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return (J) s.get(index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J set(int index, J value) {
+        if (index < 0) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        ReentrantReadWriteLock.ReadLock lock = stripes[segmentOf(index)].readLock();
+        lock.lock();
+        try {
+            Storage s = storage;
+            if (index >= s.published.get()) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            Object oldItem = s.segmentFor(index).getAndSet(offsetOf(index), itemOf(value));
+            return oldItem == NULL_ITEM ? null : (J) oldItem;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void add(J value) {
+        Object item = itemOf(value);
+        for (int spins = 0; ; spins++) {
+            Storage s = storage;
+            int index = s.claim(item, MAX_SIZE);
+            if (index >= 0) {
+                s.publishThrough(index);
+                return;
+            }
+            // A shifting mutation froze s; wait for it to publish the storage that replaces it
+            if (spins < FROZEN_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    @Override
+    public void add(int index, J value) {
+        replaceRange(length -> {
+            if (index < 0 || index > length) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            return new int[] {index, index};
+        }, new Object[] {value});
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J remove(int index) {
+        return (J) replaceRange(length -> {
+            if (index < 0 || index >= length) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            return new int[] {index, index + 1};
+        }, new Object[0])[0];
+    }
+
+    @Override
+    public ConcurrentDynamicArray<J> delete(int fromIndex, int toIndex) {
+        Object[] items = snapshot(0);
+        checkedRange(fromIndex, toIndex, items.length);
+        System.arraycopy(items, toIndex, items, fromIndex, items.length - toIndex);
+        return new ConcurrentDynamicArray<>(items, items.length - (toIndex - fromIndex));
+    }
+
+    @Override
+    public ConcurrentDynamicArray<J> append(DynamicArrayADT<J> other) {
+        Object[] tail = itemsOf(other);
+        Object[] items = snapshot(tail.length);
+        System.arraycopy(tail, 0, items, items.length - tail.length, tail.length);
+        return new ConcurrentDynamicArray<>(items, items.length);
+    }
+
+    @Override
+    public ConcurrentDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        Object[] middle = itemsOf(other);
+        Object[] items = snapshot(middle.length);
+        int length = items.length - middle.length;
+        if (index < 0 || index > length) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        System.arraycopy(items, index, items, index + middle.length, length - index);
+        System.arraycopy(middle, 0, items, index, middle.length);
+        return new ConcurrentDynamicArray<>(items, items.length);
+    }
+
+    @Override
+    public ConcurrentDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        Object[] items = snapshot(0);
+        checkedRange(fromIndex, toIndex, items.length);
+        System.arraycopy(items, fromIndex, items, 0, toIndex - fromIndex);
+        return new ConcurrentDynamicArray<>(items, toIndex - fromIndex);
+    }
+
+    @Override
+    public ConcurrentDynamicArray<J> extract(int fromIndex, int toIndex) {
+        Object[] extracted = replaceRange(length -> checkedRange(fromIndex, toIndex, length), new Object[0]);
+        return new ConcurrentDynamicArray<>(extracted, extracted.length);
+    }
+
+    @Override
+    public ConcurrentDynamicArray<J> splitPrefix(int index) {
+        Object[] prefix = replaceRange(length -> {
+            if (index < 0 || index > length) {
+                throw new ArrayIndexOutOfBoundsException("Invalid index.");
+            }
+            return new int[] {0, index};
+        }, new Object[0]);
+        return new ConcurrentDynamicArray<>(prefix, prefix.length);
+    }
+
+    @Override
+    public ConcurrentDynamicArray<J> splitSuffix(int index) {
+        Object[] suffix = replaceRange(length -> {
+            if (index < 0 || index > length) {
+                throw new ArrayIndexOutOfBoundsException("Invalid index.");
+            }
+            return new int[] {index, length};
+        }, new Object[0]);
+        return new ConcurrentDynamicArray<>(suffix, suffix.length);
+    }
+
+    @Override
+    public int size() {
+        return storage.published.get();
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements taken now, like CopyOnWriteArrayList.
+     * It never throws ConcurrentModificationException and does not support remove.
+     * @return returns an iterator over the current elements
+     */
+    @Override
+    public Iterator<J> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a read-only list iterator over a snapshot of the elements taken now, starting at index.
+     * @param index the position of the first element returned by next
+     * @return returns a list iterator over the current elements
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListIterator<J> listIterator(int index) {
+        List<J> items = (List<J>) Arrays.asList(snapshot(0));
+        if (index < 0 || index > items.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return Collections.unmodifiableList(items).listIterator(index);
+    }
+
+    /**
+     * Returns the index of the first element equal to value in a snapshot taken now, or -1.
+     * @param value the value to look for, may be null
+     * @return returns the lowest index holding value, or -1
+     */
+    @Override
+    public int indexOf(Object value) {
+        Object[] items = snapshot(0);
+        for (int i = 0; i < items.length; i++) {
+            if (Objects.equals(value, items[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a Spliterator over a snapshot of the elements taken now.
+     * @return returns a Spliterator over the current elements
+     */
+    @Override
+    public Spliterator<J> spliterator() {
+        return Spliterators.spliterator(snapshot(0), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        Object[] items = snapshot(0);
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < items.length; i++) {
+            sb.append(items[i]);
+            if (i < items.length - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,274 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit and stress tests for the ConcurrentDynamicArray class.
+ * Inherits every DynamicArrayTest case, then hammers the array from many threads and
+ * checks that the recorded history of appends is linearizable.
+ */
+public class ConcurrentDynamicArrayTest extends DynamicArrayTest {
+
+    private static final int THREADS = 8;
+    private static final int APPENDS_PER_THREAD = 5000;
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        return new ConcurrentDynamicArray<>(initialCapacity);
+    }
+
+    // Helper: runs the body on THREADS threads started together; rethrows the first failure
+    public void runConcurrently(ThreadBody body) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int id = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    body.run(id);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    /**
+     * The work done by one stress-test thread.
+     */
+    public interface ThreadBody {
+        void run(int threadId) throws Exception;
+    }
+
+    // ~*~ Linearizability of appends ~*~
+    @Test
+    public void testAppendsAreLinearizable() throws InterruptedException {
+        ConcurrentDynamicArray<Long> arr = new ConcurrentDynamicArray<>(0);
+        AtomicLong clock = new AtomicLong();
+        int total = THREADS * APPENDS_PER_THREAD;
+        long[] starts = new long[total];
+        long[] ends = new long[total];
+
+        runConcurrently(id -> {
+            for (int i = 0; i < APPENDS_PER_THREAD; i++) {
+                int op = id * APPENDS_PER_THREAD + i;
+                starts[op] = clock.getAndIncrement();
+                arr.add((long) op);
+                ends[op] = clock.getAndIncrement();
+            }
+        });
+
+        // Every append took effect exactly once
+        assertEquals(total, arr.size());
+        int[] indexOf = new int[total];
+        boolean[] seen = new boolean[total];
+        for (int i = 0; i < total; i++) {
+            int op = arr.get(i).intValue();
+            assertFalse("Duplicate append " + op, seen[op]);
+            seen[op] = true;
+            indexOf[op] = i;
+        }
+
+        // Real-time order: if append a finished before append b started, a must come first.
+        // Walking from the back, track the earliest finish among later indices.
+        long earliestLaterEnd = Long.MAX_VALUE;
+        for (int i = total - 1; i >= 0; i--) {
+            int op = arr.get(i).intValue();
+            assertTrue("Append at index " + i + " ordered after one that finished before it started",
+                    starts[op] < earliestLaterEnd);
+            earliestLaterEnd = Math.min(earliestLaterEnd, ends[op]);
+        }
+
+        // Program order within each thread
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 1; i < APPENDS_PER_THREAD; i++) {
+                int op = t * APPENDS_PER_THREAD + i;
+                assertTrue(indexOf[op - 1] < indexOf[op]);
+            }
+        }
+    }
+
+    // ~*~ Readers never see unpublished slots ~*~
+    @Test
+    public void testReadersSeePublishedPrefix() throws InterruptedException {
+        ConcurrentDynamicArray<Integer> arr = new ConcurrentDynamicArray<>(0);
+        AtomicBoolean done = new AtomicBoolean();
+        runConcurrently(id -> {
+            if (id % 2 == 0) {
+                for (int i = 0; i < APPENDS_PER_THREAD; i++) {
+                    arr.add(i);
+                }
+                done.set(true);
+            } else {
+                int lastSize = 0;
+                while (!done.get()) {
+                    int size = arr.size();
+                    assertTrue("Size went backwards", size >= lastSize);
+                    if (size > 0) {
+                        assertNotNull(arr.get(size - 1));
+                        assertNotNull(arr.get(lastSize == size ? 0 : lastSize));
+                    }
+                    lastSize = size;
+                    Thread.yield();
+                }
+            }
+        });
+        assertEquals(THREADS / 2 * APPENDS_PER_THREAD, arr.size());
+    }
+
+    // ~*~ Appends racing with shifting mutations ~*~
+    @Test
+    public void testAppendsWithConcurrentRemoves() throws InterruptedException {
+        ConcurrentDynamicArray<Integer> arr = new ConcurrentDynamicArray<>(0);
+        int perThread = 2000;
+        List<List<Integer>> removed = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            removed.add(new ArrayList<>());
+        }
+        runConcurrently(id -> {
+            for (int i = 0; i < perThread; i++) {
+                arr.add(id * perThread + i);
+                if (i % 4 == 0) {
+                    removed.get(id).add(arr.remove(0));
+                }
+                if (i % 50 == 1) {
+                    assertNotNull(arr.get(0));
+                }
+            }
+        });
+
+        Set<Integer> all = new HashSet<>();
+        for (List<Integer> list : removed) {
+            for (Integer value : list) {
+                assertTrue(all.add(value));
+            }
+        }
+        for (int i = 0; i < arr.size(); i++) {
+            assertTrue(all.add(arr.get(i)));
+        }
+        assertEquals(THREADS * perThread, all.size());
+    }
+
+    @Test
+    public void testSegmentBoundaries() {
+        ConcurrentDynamicArray<Integer> arr = new ConcurrentDynamicArray<>(100);
+        for (int i = 0; i < 5000; i++) {
+            arr.add(i);
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(Integer.valueOf(i), arr.get(i));
+        }
+        arr.add(15, -1);
+        assertEquals(Integer.valueOf(-1), arr.get(15));
+        assertEquals(Integer.valueOf(15), arr.get(16));
+        assertEquals(4000, arr.splitSuffix(1001).size());
+        assertEquals(Integer.valueOf(999), arr.get(1000));
+    }
+
+    // ~*~ Failed and stalled appends ~*~
+    @Test(timeout = 10000)
+    public void testFailedAllocationLeavesArrayUsable() throws InterruptedException {
+        ConcurrentDynamicArray<Integer> arr = new ConcurrentDynamicArray<>(0);
+        for (int i = 0; i < 16; i++) {
+            arr.add(i);
+        }
+        // The first segment is full, so the next append and the next shift both allocate
+        arr.newSegment = length -> {
+            throw new OutOfMemoryError("Injected");
+        };
+        assertThrows(OutOfMemoryError.class, () -> arr.add(16));
+        assertThrows(OutOfMemoryError.class, () -> arr.add(0, -1));
+        assertEquals(16, arr.size());
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15]", arr.toString());
+
+        arr.newSegment = AtomicReferenceArray::new;
+        runConcurrently(id -> {
+            for (int i = 0; i < 100; i++) {
+                arr.add(i);
+            }
+        });
+        assertEquals(Integer.valueOf(0), arr.remove(0));
+        assertEquals(16 + THREADS * 100 - 1, arr.size());
+    }
+
+    @Test(timeout = 10000)
+    public void testAppendsDoNotWaitForStalledAppender() throws InterruptedException {
+        ConcurrentDynamicArray<Integer> arr = new ConcurrentDynamicArray<>(0);
+        for (int i = 0; i < 16; i++) {
+            arr.add(i);
+        }
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> arr.add(-1));
+        arr.newSegment = length -> {
+            if (Thread.currentThread() == slow) {
+                stalled.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new AtomicReferenceArray<>(length);
+        };
+        slow.start();
+        stalled.await();
+        // The slow appender is stuck in the middle of add; these must still complete
+        for (int i = 16; i < 100; i++) {
+            arr.add(i);
+        }
+        assertEquals(100, arr.size());
+        release.countDown();
+        slow.join();
+        assertEquals(101, arr.size());
+        assertEquals(Integer.valueOf(-1), arr.get(100));
+    }
+
+    @Test
+    public void testShiftingEditsAtEverySegment() {
+        ConcurrentDynamicArray<Integer> arr = new ConcurrentDynamicArray<>(0);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            arr.add(i);
+            expected.add(i);
+        }
+        // Edits just before, at and after the first index of each segment
+        for (int start : new int[] {0, 16, 48, 112, 240, 496}) {
+            for (int index = Math.max(0, start - 1); index <= start + 1; index++) {
+                arr.add(index, -index);
+                expected.add(index, -index);
+                assertEquals(expected.remove(index + 1), arr.remove(index + 1));
+                ConcurrentDynamicArray<Integer> extracted = arr.extract(index, index + 3);
+                List<Integer> removed = new ArrayList<>(expected.subList(index, index + 3));
+                expected.subList(index, index + 3).clear();
+                assertEquals(removed.toString(), extracted.toString());
+                assertEquals(expected.toString(), arr.toString());
+            }
+        }
+        arr.set(3, 7);
+        expected.set(3, 7);
+        arr.add(42);
+        expected.add(42);
+        assertEquals(expected.toString(), arr.toString());
+    }
+}
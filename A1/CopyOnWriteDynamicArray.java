@@ -0,0 +1,340 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe dynamic array for data that is read far more often than it is changed.
+ * <p>
+ * The elements live in an array that is never modified once published. Readers do one
+ * volatile read of the current array and never block or retry, however many there are.
+ * Every mutation copies the array under a lock, changes the copy and publishes it with a
+ * single volatile write, like CopyOnWriteArrayList. Use update to make many changes for
+ * the price of one copy; readers see either none of them or all of them. Iterators,
+ * streams and toString work on the array that was current when they started.
+ * <p>
+ * The lock is a ReentrantLock rather than a synchronized block so that a writer on a
+ * virtual thread unmounts while it waits instead of pinning its carrier.
+ * @param <J> the type of elements stored in the array
+ */
+public class CopyOnWriteDynamicArray<J> implements DynamicArrayADT<J> {
+    private static final Object[] EMPTY = {};
+
+    private volatile Object[] items;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Constructs an empty CopyOnWriteDynamicArray.
+     * The array always has exactly as many slots as elements, so initialCapacity is only checked.
+     * @param initialCapacity the initial capacity of the array
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public CopyOnWriteDynamicArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new ArrayIndexOutOfBoundsException("Initial capacity cannot be negative.");
+        }
+        items = EMPTY;
+    }
+
+    /**
+     * Constructs a CopyOnWriteDynamicArray holding the elements of other.
+     * @param other the elements to start with
+     */
+    public CopyOnWriteDynamicArray(DynamicArrayADT<J> other) {
+        items = itemsOf(other);
+    }
+
+    private CopyOnWriteDynamicArray(Object[] items) {
+        this.items = items;
+    }
+
+    /**
+     * Returns the elements of other in an array that nothing else will modify.
+     * Another CopyOnWriteDynamicArray's current array is shared rather than copied.
+     */
+    @SuppressWarnings("unchecked")
+    private static <J> Object[] itemsOf(DynamicArrayADT<J> other) {
+        if (other instanceof CopyOnWriteDynamicArray) {
+            return ((CopyOnWriteDynamicArray<J>) other).items;
+        }
+        int length = other.size();
+        Object[] copy = new Object[length];
+        DynamicArray.copyRange(other, 0, length, (J[]) copy, 0);
+        return copy;
+    }
+
+    // ~*~ Writing ~*~
+
+    /**
+     * Applies edits to a copy of the current elements and publishes the result in one step.
+     * The copy is a DynamicArray, so every DynamicArray operation is available to edits.
+     * Other writers wait until edits returns; readers keep seeing the old elements until then.
+     * If edits throws, nothing is published.
+     * @param edits the changes to make
+     */
+    @SuppressWarnings("unchecked")
+    public void update(Consumer<? super DynamicArray<J>> edits) {
+        lock.lock();
+        try {
+            Object[] current = items;
+            DynamicArray<J> draft = DynamicArray.build(current.length,
+                    out -> System.arraycopy(current, 0, out, 0, current.length));
+            edits.accept(draft);
+            Object[] next = new Object[draft.size()];
+            DynamicArray.copyRange(draft, 0, next.length, (J[]) next, 0);
+            items = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void checkIndex(Object[] current, int index) {
+        if (index < 0 || index >= current.length) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+    }
+
+    // ~*~ DynamicArrayADT ~*~
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J get(int index) {
+        Object[] current = items;
+        checkIndex(current, index);
+        return (J) current[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J set(int index, J value) {
+        lock.lock();
+        try {
+            Object[] current = items;
+            checkIndex(current, index);
+            Object oldValue = current[index];
+            Object[] next = current.clone();
+            next[index] = value;
+            items = next;
+            return (J) oldValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void add(int index, J value) {
+        lock.lock();
+        try {
+            Object[] current = items;
+            if (index < 0 || index > current.length) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            Object[] next = new Object[current.length + 1];
+            System.arraycopy(current, 0, next, 0, index);
+            next[index] = value;
+            System.arraycopy(current, index, next, index + 1, current.length - index);
+            items = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void add(J value) {
+        lock.lock();
+        try {
+            Object[] current = items;
+            Object[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = value;
+            items = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J remove(int index) {
+        lock.lock();
+        try {
+            Object[] current = items;
+            checkIndex(current, index);
+            Object removedValue = current[index];
+            items = without(current, index, index + 1);
+            return (J) removedValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Object[] without(Object[] current, int fromIndex, int toIndex) {
+        Object[] next = new Object[current.length - (toIndex - fromIndex)];
+        System.arraycopy(current, 0, next, 0, fromIndex);
+        System.arraycopy(current, toIndex, next, fromIndex, current.length - toIndex);
+        return next;
+    }
+
+    private static void checkRange(Object[] current, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > current.length || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+    }
+
+    @Override
+    public CopyOnWriteDynamicArray<J> delete(int fromIndex, int toIndex) {
+        Object[] current = items;
+        checkRange(current, fromIndex, toIndex);
+        return new CopyOnWriteDynamicArray<>(without(current, fromIndex, toIndex));
+    }
+
+    @Override
+    public CopyOnWriteDynamicArray<J> append(DynamicArrayADT<J> other) {
+        Object[] current = items;
+        return inserting(current, current.length, other);
+    }
+
+    @Override
+    public CopyOnWriteDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        Object[] current = items;
+        if (index < 0 || index > current.length) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return inserting(current, index, other);
+    }
+
+    private CopyOnWriteDynamicArray<J> inserting(Object[] current, int index, DynamicArrayADT<J> other) {
+        Object[] inserted = itemsOf(other);
+        Object[] next = new Object[current.length + inserted.length];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(inserted, 0, next, index, inserted.length);
+        System.arraycopy(current, index, next, index + inserted.length, current.length - index);
+        return new CopyOnWriteDynamicArray<>(next);
+    }
+
+    @Override
+    public CopyOnWriteDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        Object[] current = items;
+        checkRange(current, fromIndex, toIndex);
+        return new CopyOnWriteDynamicArray<>(Arrays.copyOfRange(current, fromIndex, toIndex));
+    }
+
+    @Override
+    public CopyOnWriteDynamicArray<J> extract(int fromIndex, int toIndex) {
+        lock.lock();
+        try {
+            Object[] current = items;
+            checkRange(current, fromIndex, toIndex);
+            items = without(current, fromIndex, toIndex);
+            return new CopyOnWriteDynamicArray<>(Arrays.copyOfRange(current, fromIndex, toIndex));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CopyOnWriteDynamicArray<J> splitPrefix(int index) {
+        lock.lock();
+        try {
+            if (index < 0 || index > items.length) {
+                throw new ArrayIndexOutOfBoundsException("Invalid index.");
+            }
+            return extract(0, index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CopyOnWriteDynamicArray<J> splitSuffix(int index) {
+        lock.lock();
+        try {
+            if (index < 0 || index > items.length) {
+                throw new ArrayIndexOutOfBoundsException("Invalid index.");
+            }
+            return extract(index, items.length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return items.length;
+    }
+
+    // ~*~ Snapshots ~*~
+
+    /**
+     * Returns a DynamicArray holding a copy of the current elements.
+     * @return returns the copy
+     */
+    public DynamicArray<J> snapshot() {
+        Object[] current = items;
+        return DynamicArray.build(current.length, out -> System.arraycopy(current, 0, out, 0, current.length));
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        Object[] current = items;
+        for (int i = 0; i < current.length; i++) {
+            if (Objects.equals(value, current[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over the elements current when it was created.
+     * It never throws ConcurrentModificationException and does not support remove.
+     * @return returns an iterator over the current elements
+     */
+    @Override
+    public Iterator<J> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a read-only list iterator over the elements current when it was created, starting at index.
+     * @param index the position of the first element returned by next
+     * @return returns a list iterator over the current elements
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListIterator<J> listIterator(int index) {
+        List<J> current = (List<J>) Arrays.asList(items);
+        if (index < 0 || index > current.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return Collections.unmodifiableList(current).listIterator(index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super J> action) {
+        for (Object item : items) {
+            action.accept((J) item);
+        }
+    }
+
+    /**
+     * Returns a Spliterator over the elements current when it was created.
+     * @return returns a Spliterator over the current elements
+     */
+    @Override
+    public Spliterator<J> spliterator() {
+        return Spliterators.spliterator(items, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(items);
+    }
+}
@@ -0,0 +1,124 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the CopyOnWriteDynamicArray class.
+ * Inherits every DynamicArrayTest case, then checks snapshots and atomic updates.
+ */
+public class CopyOnWriteDynamicArrayTest extends DynamicArrayTest {
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        return new CopyOnWriteDynamicArray<>(initialCapacity);
+    }
+
+    // ~*~ Snapshots ~*~
+    @Test
+    public void testIteratorSeesSnapshot() {
+        CopyOnWriteDynamicArray<Character> arr = (CopyOnWriteDynamicArray<Character>) stringToArray("abc");
+        Iterator<Character> it = arr.iterator();
+        arr.add('d');
+        arr.remove(0);
+        StringBuilder sb = new StringBuilder();
+        it.forEachRemaining(sb::append);
+        assertEquals("abc", sb.toString());
+        assertEquals("[b, c, d]", arr.toString());
+        DynamicArray<Character> copy = arr.snapshot();
+        arr.set(0, 'z');
+        assertEquals("[b, c, d]", copy.toString());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIteratorIsReadOnly() {
+        Iterator<Character> it = stringToArray("abc").iterator();
+        it.next();
+        it.remove();
+    }
+
+    @Test
+    public void testUpdatePublishesOnce() {
+        CopyOnWriteDynamicArray<Character> arr = (CopyOnWriteDynamicArray<Character>) stringToArray("abc");
+        arr.update(draft -> {
+            draft.add('d');
+            draft.remove(0);
+            draft.set(0, 'B');
+            assertEquals("[a, b, c]", arr.toString());
+        });
+        assertEquals("[B, c, d]", arr.toString());
+    }
+
+    @Test
+    public void testFailedUpdatePublishesNothing() {
+        CopyOnWriteDynamicArray<Character> arr = (CopyOnWriteDynamicArray<Character>) stringToArray("abc");
+        try {
+            arr.update(draft -> {
+                draft.add('d');
+                draft.remove(10);
+            });
+            fail();
+        } catch (ArrayIndexOutOfBoundsException expected) {
+            // the draft is dropped
+        }
+        assertEquals("[a, b, c]", arr.toString());
+    }
+
+    @Test
+    public void testDerivedArraysShareNothingMutable() {
+        CopyOnWriteDynamicArray<Character> arr = (CopyOnWriteDynamicArray<Character>) stringToArray("abc");
+        CopyOnWriteDynamicArray<Character> copy = new CopyOnWriteDynamicArray<>(arr);
+        arr.set(0, 'x');
+        assertEquals("[a, b, c]", copy.toString());
+        CopyOnWriteDynamicArray<Character> joined = arr.append(copy);
+        copy.add('d');
+        assertEquals("[x, b, c, a, b, c]", joined.toString());
+    }
+
+    @Test
+    public void testReadersNeverSeeHalfAnUpdate() throws InterruptedException {
+        CopyOnWriteDynamicArray<Integer> arr = new CopyOnWriteDynamicArray<>(0);
+        arr.update(draft -> {
+            for (int i = 0; i < 64; i++) {
+                draft.add(0);
+            }
+        });
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> torn = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            Thread reader = new Thread(() -> {
+                while (!done.get()) {
+                    int first = -1;
+                    for (int value : arr) {
+                        if (first < 0) {
+                            first = value;
+                        } else if (value != first) {
+                            torn.set("saw " + first + " and " + value);
+                        }
+                    }
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        for (int round = 1; round <= 200; round++) {
+            int value = round;
+            arr.update(draft -> {
+                for (int i = 0; i < draft.size(); i++) {
+                    draft.set(i, value);
+                }
+            });
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(torn.get());
+        assertEquals(Integer.valueOf(200), arr.get(63));
+    }
+}
@@ -0,0 +1,418 @@
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * A dynamic array of double values backed by a primitive double[], so no element is ever boxed.
+ * It offers the same operations as DynamicArrayADT with unboxed signatures.
+ */
+public class DoubleDynamicArray {
+    private static final double[] EMPTY = new double[0];
+
+    private double[] data;
+    private int size;
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Constructs an empty DoubleDynamicArray with the specified initial capacity.
+     * @param initialCapacity the initial capacity of the array
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public DoubleDynamicArray(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructs an empty DoubleDynamicArray with the specified initial capacity and growth policy.
+     * @param initialCapacity the initial capacity of the array
+     * @param growthPolicy decides the new capacity whenever the array is full
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public DoubleDynamicArray(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new ArrayIndexOutOfBoundsException("Initial capacity cannot be negative.");
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null.");
+        }
+        data = initialCapacity == 0 ? EMPTY : new double[initialCapacity];
+        size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Constructs a DoubleDynamicArray as a deep copy of another DoubleDynamicArray.
+     * @param other the DoubleDynamicArray to copy
+     */
+    public DoubleDynamicArray(DoubleDynamicArray other) {
+        data = Arrays.copyOf(other.data, other.data.length);
+        size = other.size;
+        growthPolicy = other.growthPolicy;
+    }
+
+    /**
+     * Creates an array of exactly the given size, with the same growth policy as this one.
+     * The caller fills in all of its elements.
+     */
+    private DoubleDynamicArray derive(int length) {
+        DoubleDynamicArray newArray = new DoubleDynamicArray(length, growthPolicy);
+        newArray.size = length;
+        return newArray;
+    }
+
+    private void grow(int minCapacity) {
+        setCapacity(Math.max(minCapacity, growthPolicy.grow(data.length, minCapacity)));
+    }
+
+    private void setCapacity(int capacity) {
+        data = Arrays.copyOf(data, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+    }
+
+    /**
+     * Returns the number of elements the backing array can hold before it has to grow.
+     * @return returns the length of the backing array
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Grows the backing array, if needed, so it can hold at least minCapacity elements.
+     * @param minCapacity the number of elements the array must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly the number of elements stored.
+     */
+    public void trimToSize() {
+        if (size < data.length) {
+            setCapacity(size);
+        }
+    }
+
+    /**
+     * Returns the element stored at a given index.
+     * @param index the position
+     * @return returns the element
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public double get(int index) {
+        checkIndex(index);
+        return data[index];
+    }
+
+    /**
+     * Updates the element at the given index.
+     * @param index the position of the element
+     * @param value the new value
+     * @return returns the old value at that index
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public double set(int index, double value) {
+        checkIndex(index);
+        double oldValue = data[index];
+        data[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Adds an element at the given index, moving the rest of the elements to the right.
+     * @param index the position to add the element
+     * @param value element to add
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public void add(int index, double value) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        if (size == data.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = value;
+        size++;
+    }
+
+    /**
+     * Adds an element to the end of the array.
+     * @param value element to add
+     */
+    public void add(double value) {
+        if (size == data.length) {
+            grow(size + 1);
+        }
+        data[size] = value;
+        size++;
+    }
+
+    /**
+     * Removes the element at the given index, shifting subsequent elements left.
+     * @param index the position of the element to remove
+     * @return returns the removed element
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public double remove(int index) {
+        checkIndex(index);
+        double removedValue = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns a new array with the range [fromIndex, toIndex) removed.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @return returns a new DoubleDynamicArray without that range
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public DoubleDynamicArray delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        DoubleDynamicArray newArray = derive(size - (toIndex - fromIndex));
+        System.arraycopy(data, 0, newArray.data, 0, fromIndex);
+        System.arraycopy(data, toIndex, newArray.data, fromIndex, size - toIndex);
+        return newArray;
+    }
+
+    /**
+     * Returns a new array that is this one followed by other.
+     * @param other the array to append
+     * @return returns the concatenation of this array and other
+     */
+    public DoubleDynamicArray append(DoubleDynamicArray other) {
+        DoubleDynamicArray newArray = derive(this.size + other.size);
+        System.arraycopy(this.data, 0, newArray.data, 0, this.size);
+        System.arraycopy(other.data, 0, newArray.data, this.size, other.size);
+        return newArray;
+    }
+
+    /**
+     * Returns a new array that is this one with all of other inserted at index.
+     * @param index the position to insert other
+     * @param other the array to insert
+     * @return returns the combined array
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public DoubleDynamicArray insert(int index, DoubleDynamicArray other) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        int otherSize = other.size;
+        DoubleDynamicArray newArray = derive(this.size + otherSize);
+        System.arraycopy(this.data, 0, newArray.data, 0, index);
+        System.arraycopy(other.data, 0, newArray.data, index, otherSize);
+        System.arraycopy(this.data, index, newArray.data, index + otherSize, this.size - index);
+        return newArray;
+    }
+
+    /**
+     * Returns a copy of the range [fromIndex, toIndex).
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @return returns a new DoubleDynamicArray holding that range
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public DoubleDynamicArray sublist(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        DoubleDynamicArray newArray = derive(toIndex - fromIndex);
+        System.arraycopy(data, fromIndex, newArray.data, 0, toIndex - fromIndex);
+        return newArray;
+    }
+
+    /**
+     * Removes the range [fromIndex, toIndex) from this array and returns it.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @return returns a new DoubleDynamicArray holding the removed range
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public DoubleDynamicArray extract(int fromIndex, int toIndex) {
+        DoubleDynamicArray newArray = sublist(fromIndex, toIndex);
+        System.arraycopy(data, toIndex, data, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        return newArray;
+    }
+
+    /**
+     * Removes the elements before index from this array and returns them.
+     * @param index the position to split at
+     * @return returns a new DoubleDynamicArray with the prefix elements
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public DoubleDynamicArray splitPrefix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(0, index);
+    }
+
+    /**
+     * Removes the elements from index onward from this array and returns them.
+     * @param index the position to split at
+     * @return returns a new DoubleDynamicArray with the suffix elements
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public DoubleDynamicArray splitSuffix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        DoubleDynamicArray suffix = sublist(index, size);
+        size = index;
+        return suffix;
+    }
+
+    /**
+     * Returns number of elements in the array.
+     * @return returns number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the lowest valid index, which is always 0.
+     * @return returns the lowest valid index
+     */
+    public int lowIndex() {
+        return 0;
+    }
+
+    /**
+     * Returns the highest valid index, which is size() - 1.
+     * @return returns the highest valid index
+     */
+    public int highIndex() {
+        return size - 1;
+    }
+
+    /**
+     * Returns true if a given index is within the valid range.
+     * @param index the index to check
+     * @return returns whether index is valid for get
+     */
+    public boolean indexInRange(int index) {
+        return index >= lowIndex() && index <= highIndex();
+    }
+
+    /**
+     * Returns a copy of the elements as a plain array.
+     * @return returns a new double[] of length size()
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Copies count elements starting at fromIndex into dest in one block, advancing its position.
+     */
+    void writeTo(DoubleBuffer dest, int fromIndex, int count) {
+        dest.put(data, fromIndex, count);
+    }
+
+    /**
+     * Appends count elements read from src in one block, advancing its position.
+     */
+    void readFrom(DoubleBuffer src, int count) {
+        ensureCapacity(size + count);
+        src.get(data, size, count);
+        size += count;
+    }
+
+    /**
+     * Sets every element in [fromIndex, toIndex) to value.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @param value the value to store
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public void fill(int fromIndex, int toIndex, double value) {
+        checkRange(fromIndex, toIndex);
+        Arrays.fill(data, fromIndex, toIndex, value);
+    }
+
+    /**
+     * Returns the index of the first element that differs between this array and other,
+     * or -1 if they hold the same elements. If one is a prefix of the other, the result is
+     * the length of the shorter one. Runs on Arrays.mismatch, which the JIT compiles to
+     * vector instructions.
+     * @param other the array to compare with
+     * @return returns the first differing index, or -1
+     */
+    public int mismatch(DoubleDynamicArray other) {
+        return Arrays.mismatch(data, 0, size, other.data, 0, other.size);
+    }
+
+    /**
+     * Compares the range [fromIndex, toIndex) of this array with [otherFrom, otherTo) of
+     * other lexicographically, like Arrays.compare.
+     * @param fromIndex, inclusive start in this array
+     * @param toIndex, exclusive end in this array
+     * @param other the array to compare with
+     * @param otherFrom, inclusive start in other
+     * @param otherTo, exclusive end in other
+     * @return returns a negative number, zero or a positive number as this range is less than,
+     *         equal to or greater than the other
+     * @throws ArrayIndexOutOfBoundsException if any index is invalid
+     */
+    public int compareRange(int fromIndex, int toIndex, DoubleDynamicArray other, int otherFrom, int otherTo) {
+        checkRange(fromIndex, toIndex);
+        other.checkRange(otherFrom, otherTo);
+        return Arrays.compare(data, fromIndex, toIndex, other.data, otherFrom, otherTo);
+    }
+
+    /**
+     * Returns true if other is a DoubleDynamicArray holding the same elements in the same order.
+     * Elements are compared by their bits, like Double.equals, so NaN equals NaN and 0.0 does
+     * not equal -0.0; hashCode agrees.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DoubleDynamicArray)) {
+            return false;
+        }
+        DoubleDynamicArray that = (DoubleDynamicArray) other;
+        return Arrays.equals(data, 0, size, that.data, 0, that.size);
+    }
+
+    /**
+     * Returns a hash of the elements in order, computed like List.hashCode.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Double.hashCode(data[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(data[i]);
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
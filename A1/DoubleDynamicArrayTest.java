@@ -0,0 +1,154 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the DoubleDynamicArray class.
+ * They mirror DynamicArrayTest, using unboxed doubles instead of Double.
+ */
+public class DoubleDynamicArrayTest {
+
+    // Helper: builds array from values
+    public DoubleDynamicArray of(double... values) {
+        DoubleDynamicArray result = new DoubleDynamicArray(values.length);
+        for (double value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    // Compare contents bit for bit, so NaN and -0.0 are checked exactly
+    public void compareTo(DoubleDynamicArray arr, double... values) {
+        assertArrayEquals(values, arr.toArray(), 0.0);
+    }
+
+    // ~*~ Constructor ~*~
+    @Test
+    public void testConstructor() {
+        assertEquals(0, new DoubleDynamicArray(5).size());
+        assertEquals(0, new DoubleDynamicArray(0).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> new DoubleDynamicArray(-1));
+
+        DoubleDynamicArray original = of(0.5, 1.5, 2.5);
+        DoubleDynamicArray copy = new DoubleDynamicArray(original);
+        copy.set(0, 9);
+        compareTo(original, 0.5, 1.5, 2.5);
+        compareTo(copy, 9, 1.5, 2.5);
+    }
+
+    // ~*~ Get / Set ~*~
+    @Test
+    public void testGetSet() {
+        DoubleDynamicArray arr = of(0.5, Double.MIN_VALUE, 2.5);
+        assertEquals(Double.MIN_VALUE, arr.get(1), 0.0);
+        assertEquals(Double.MIN_VALUE, arr.set(1, Double.POSITIVE_INFINITY), 0.0);
+        compareTo(arr, 0.5, Double.POSITIVE_INFINITY, 2.5);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.set(-1, 0));
+    }
+
+    // ~*~ Add ~*~
+    @Test
+    public void testAdd() {
+        DoubleDynamicArray arr = new DoubleDynamicArray(0);
+        arr.add(2);
+        arr.add(0, 1);
+        arr.add(2, 4);
+        arr.add(2, 3);
+        compareTo(arr, 1, 2, 3, 4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.add(5, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.add(-1, 5));
+    }
+
+    // ~*~ Remove ~*~
+    @Test
+    public void testRemove() {
+        DoubleDynamicArray arr = of(1, 2, 3, 4);
+        assertEquals(3, arr.remove(2), 0.0);
+        compareTo(arr, 1, 2, 4);
+        assertEquals(1, arr.remove(0), 0.0);
+        compareTo(arr, 2, 4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.remove(2));
+    }
+
+    // ~*~ Group 3 ~*~
+    @Test
+    public void testAppendInsert() {
+        compareTo(of(1, 2, 3).append(of(7, 8)), 1, 2, 3, 7, 8);
+        compareTo(of(1, 2, 3).insert(1, of(7, 8)), 1, 7, 8, 2, 3);
+        DoubleDynamicArray self = of(1, 2);
+        compareTo(self.insert(1, self), 1, 1, 2, 2);
+        compareTo(of().insert(0, of()));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).insert(4, of(7)));
+    }
+
+    @Test
+    public void testSublistDelete() {
+        compareTo(of(1, 2, 3, 4, 5, 6).sublist(1, 4), 2, 3, 4);
+        compareTo(of(1, 2, 3, 4, 5, 6).delete(2, 4), 1, 2, 5, 6);
+        compareTo(of(1, 2, 3, 4, 5, 6).delete(0, 6));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).sublist(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).delete(0, 4));
+    }
+
+    @Test
+    public void testExtractAndSplits() {
+        DoubleDynamicArray arr = of(1, 2, 3, 4, 5, 6);
+        compareTo(arr.extract(2, 5), 3, 4, 5);
+        compareTo(arr, 1, 2, 6);
+
+        DoubleDynamicArray arr2 = of(1, 2, 3, 4, 5, 6);
+        compareTo(arr2.splitPrefix(2), 1, 2);
+        compareTo(arr2, 3, 4, 5, 6);
+
+        DoubleDynamicArray arr3 = of(1, 2, 3, 4, 5, 6);
+        compareTo(arr3.splitSuffix(2), 3, 4, 5, 6);
+        compareTo(arr3, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).extract(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).splitPrefix(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).splitSuffix(-1));
+    }
+
+    // ~*~ ToString ~*~
+    @Test
+    public void testToStringFormat() {
+        assertEquals("[1.5, -0.0, NaN]", of(1.5, -0.0, Double.NaN).toString());
+        assertEquals("[]", of().toString());
+    }
+
+    // ~*~ Equality ~*~
+    @Test
+    public void testEqualsAndMismatch() {
+        assertEquals(of(1, 2, 3), of(1, 2, 3));
+        assertEquals(of(1, 2, 3).hashCode(), of(1, 2, 3).hashCode());
+        assertNotEquals(of(1, 2, 3), of(1, 2, 4));
+        assertNotEquals(of(1, 2), of(1, 2, 3));
+        assertEquals(2, of(1, 2, 3).mismatch(of(1, 2, 4)));
+        assertTrue(of(1, 2, 3).compareRange(0, 3, of(1, 2, 4), 0, 3) < 0);
+        DoubleDynamicArray arr = of(1, 2, 3, 4);
+        arr.fill(1, 3, 0.5);
+        compareTo(arr, 1, 0.5, 0.5, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2).fill(1, 3, 0));
+    }
+
+    @Test
+    public void testEqualityComparesBits() {
+        // NaN equals NaN, as with Double.equals
+        assertEquals(of(Double.NaN), of(Double.NaN));
+        assertEquals(of(Double.NaN).hashCode(), of(Double.NaN).hashCode());
+        assertEquals(-1, of(1, Double.NaN).mismatch(of(1, Double.NaN)));
+        assertEquals(0, of(Double.NaN).compareRange(0, 1, of(Double.NaN), 0, 1));
+
+        // 0.0 and -0.0 differ, although 0.0 == -0.0
+        assertNotEquals(of(0.0), of(-0.0));
+        assertNotEquals(of(0.0).hashCode(), of(-0.0).hashCode());
+        assertEquals(0, of(0.0).mismatch(of(-0.0)));
+        assertTrue(of(-0.0).compareRange(0, 1, of(0.0), 0, 1) < 0);
+        assertTrue(of(Double.NaN).compareRange(0, 1, of(Double.POSITIVE_INFINITY), 0, 1) > 0);
+    }
+}
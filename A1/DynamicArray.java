@@ -1,3 +1,22 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * A simple implementation of a dynamic array.
@@ -6,6 +25,44 @@
 public class DynamicArray<J> implements DynamicArrayADT<J> {
     private J[] data;
     private int size;
+    private GrowthPolicy growthPolicy;
+    private double shrinkThreshold;
+    private boolean viewMode;
+    private DynamicArrayMetrics metrics = defaultMetrics;
+    private DynamicArrayPool pool;
+    private DynamicArrayHashIndex hashIndex;
+
+    private static volatile DynamicArrayMetrics defaultMetrics;
+
+    /**
+     * Number of structural modifications (changes in size) so far.
+     * Views compare it against the value they were created with to detect stale bounds.
+     */
+    int modCount;
+
+    /**
+     * Arrays smaller than this run the parallel operations sequentially, and larger ones are
+     * never split into pieces smaller than this; below it forking costs more than it saves.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Elements whose text length is measured to estimate the length of toString.
+     */
+    private static final int ESTIMATE_SAMPLES = 16;
+
+    /**
+     * The characters per element toString reserves up front, and the most it reserves in all.
+     * This is only a hint: sampling would render elements twice, and a few long samples can
+     * overstate the length by orders of magnitude. Past it the builder grows as it goes.
+     */
+    private static final int TO_STRING_HINT_PER_ELEMENT = 16;
+    private static final int TO_STRING_HINT_CAP = 1 << 16;
+
+    /**
+     * Characters buffered in front of an unbuffered Writer by writeTo.
+     */
+    private static final int WRITER_BUFFER = 1 << 13;
 
     /**
      * Constructs an empty DynamicArray with the specified initial capacity.
@@ -13,23 +70,40 @@ public class DynamicArray<J> implements DynamicArrayADT<J> {
      * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
      */
     public DynamicArray(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructs an empty DynamicArray with the specified initial capacity and growth policy.
+     * @param initialCapacity the initial capacity of the array
+     * @param growthPolicy decides the new capacity whenever the array is full
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public DynamicArray(int initialCapacity, GrowthPolicy growthPolicy) {
         if (initialCapacity < 0) {
             throw new ArrayIndexOutOfBoundsException("Initial capacity cannot be negative.");
         }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null.");
+        }
         data = allocate(initialCapacity);
         size = 0;
+        this.growthPolicy = growthPolicy;
     }
 
     /**
      * Constructs a DynamicArray as a deep copy of another DynamicArray.
+     * The copy keeps the growth policy and shrink threshold of the original.
      * @param other the DynamicArray to copy
      */
     public DynamicArray(DynamicArray<J> other) {
-        data = allocate(other.data.length);
+        pool = other.pool;
+        data = newBackingArray(other.data.length);
         size = other.size;
-        for (int i = 0; i < size; i++) {
-            data[i] = other.data[i];
-        }
+        growthPolicy = other.growthPolicy;
+        shrinkThreshold = other.shrinkThreshold;
+        metrics = other.metrics;
+        System.arraycopy(other.data, 0, data, 0, size);
     }
 
     @SuppressWarnings("unchecked")
@@ -37,15 +111,308 @@ public class DynamicArray<J> implements DynamicArrayADT<J> {
         return (J[]) new Object[len];
     }
 
+    /**
+     * Returns a backing array of at least length slots, from the pool if this array has one.
+     */
+    @SuppressWarnings("unchecked")
+    private J[] newBackingArray(int length) {
+        return pool != null ? (J[]) pool.acquire(length) : allocate(length);
+    }
+
+    private void releaseBackingArray(J[] array) {
+        if (pool != null) {
+            pool.release(array);
+        }
+    }
+
+    /**
+     * Creates an empty array with the same growth settings, metrics and pool as this one.
+     */
+    private DynamicArray<J> derive() {
+        DynamicArray<J> newArray = new DynamicArray<>(0, growthPolicy);
+        newArray.shrinkThreshold = shrinkThreshold;
+        newArray.metrics = metrics;
+        newArray.pool = pool;
+        return newArray;
+    }
+
     private void resize() {
-        int newCapacity = data.length == 0 ? 1 : data.length * 2;
-        J[] newData = allocate(newCapacity);
-        for (int i = 0; i < size; i++) {
-            newData[i] = data[i];
+        grow(size + 1);
+    }
+
+    private void grow(int minCapacity) {
+        setCapacity(Math.max(minCapacity, growthPolicy.grow(data.length, minCapacity)));
+    }
+
+    private void setCapacity(int capacity) {
+        if (pool != null) {
+            capacity = pool.lengthFor(capacity);
+            if (capacity == data.length) {
+                return;
+            }
+        }
+        if (metrics != null) {
+            metrics.resized(data.length, capacity, size);
         }
+        J[] newData = newBackingArray(capacity);
+        System.arraycopy(data, 0, newData, 0, size);
+        releaseBackingArray(data);
         data = newData;
     }
 
+    private void record(DynamicArrayMetrics.Operation operation, int shifted, int copied) {
+        if (metrics != null) {
+            metrics.record(operation, shifted, copied);
+        }
+    }
+
+    /**
+     * Shrinks the backing array once occupancy falls below the shrink threshold.
+     * The new capacity is what the growth policy would pick for the current size,
+     * so a shrink is never immediately undone by the next add.
+     */
+    private void shrinkIfSparse() {
+        if (size < shrinkThreshold * data.length) {
+            int capacity = Math.max(size, growthPolicy.grow(size, size));
+            if (capacity < data.length) {
+                setCapacity(capacity);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements the backing array can hold before it has to grow.
+     * @return returns the length of the backing array
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Grows the backing array, if needed, so it can hold at least minCapacity elements.
+     * @param minCapacity the number of elements the array must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly the number of elements stored.
+     */
+    public void trimToSize() {
+        if (size < data.length) {
+            setCapacity(size);
+        }
+    }
+
+    /**
+     * Returns the policy used to pick a new capacity when the array is full.
+     * @return returns the growth policy
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Replaces the policy used to pick a new capacity when the array is full.
+     * @param growthPolicy the new growth policy
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null.");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Returns the occupancy below which removals shrink the backing array.
+     * @return returns the shrink threshold, where 0 means the array never shrinks by itself
+     */
+    public double getShrinkThreshold() {
+        return shrinkThreshold;
+    }
+
+    /**
+     * Sets the occupancy (size divided by capacity) below which removals shrink the backing array.
+     * Keep it well under the occupancy the growth policy leaves behind, e.g. 0.25 for doubling.
+     * @param shrinkThreshold a fraction in [0, 1), where 0 turns automatic shrinking off
+     * @throws IllegalArgumentException if shrinkThreshold is outside [0, 1)
+     */
+    public void setShrinkThreshold(double shrinkThreshold) {
+        if (!(shrinkThreshold >= 0 && shrinkThreshold < 1)) {
+            throw new IllegalArgumentException("Shrink threshold must be in [0, 1).");
+        }
+        this.shrinkThreshold = shrinkThreshold;
+    }
+
+    /**
+     * Returns the metrics this array reports to, or null if it reports none.
+     * @return returns the attached DynamicArrayMetrics
+     */
+    public DynamicArrayMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Attaches metrics to this array; arrays built from it report to the same metrics.
+     * @param metrics the counters to update, or null to stop reporting
+     */
+    public void setMetrics(DynamicArrayMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the metrics that every DynamicArray constructed from now on reports to.
+     * Arrays that already exist are not affected.
+     * @param metrics the counters to update, or null for none
+     */
+    public static void setDefaultMetrics(DynamicArrayMetrics metrics) {
+        defaultMetrics = metrics;
+    }
+
+    /**
+     * Returns the pool this array takes its backing arrays from, or null if it has none.
+     * @return returns the attached DynamicArrayPool
+     */
+    public DynamicArrayPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Makes this array take backing arrays from pool, and return them to it, from now on.
+     * Arrays built from this one use the same pool. With a pool, capacities are rounded up
+     * to the pool's size classes.
+     * @param pool the pool to use, or null to allocate as usual
+     */
+    public void setPool(DynamicArrayPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Empties this array and hands its backing array back to its pool, if it has one.
+     * Call it on a temporary array that is about to be dropped; the array stays usable.
+     */
+    public void recycle() {
+        if (pool != null) {
+            pool.release(data);
+            data = newBackingArray(0);
+        } else {
+            Arrays.fill(data, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+        indexStale(0);
+    }
+
+    /**
+     * Copies every element of source into dest starting at destPos.
+     * A DynamicArray source is copied straight from its backing array.
+     * @param source the array to copy from
+     * @param dest the array to copy into
+     * @param destPos the first position written in dest
+     */
+    private static <J> void copyInto(DynamicArrayADT<J> source, J[] dest, int destPos) {
+        copyRange(source, 0, source.size(), dest, destPos);
+    }
+
+    /**
+     * Copies the elements [fromIndex, toIndex) of source into dest starting at destPos.
+     * A DynamicArray source, or a view of one, is copied straight from its backing array.
+     * The range is not checked against the size of source.
+     */
+    static <J> void copyRange(DynamicArrayADT<J> source, int fromIndex, int toIndex, J[] dest, int destPos) {
+        if (source instanceof DynamicArray) {
+            DynamicArray<J> other = (DynamicArray<J>) source;
+            System.arraycopy(other.data, fromIndex, dest, destPos, toIndex - fromIndex);
+            return;
+        }
+        if (source instanceof DynamicArrayView) {
+            DynamicArrayView<J> view = (DynamicArrayView<J>) source;
+            view.checkForComodification();
+            System.arraycopy(view.parent.data, view.offset + fromIndex, dest, destPos, toIndex - fromIndex);
+            return;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            dest[destPos++] = source.get(i);
+        }
+    }
+
+    /**
+     * Returns a new DynamicArray of exactly length elements, which fill writes straight into
+     * the backing array it is given.
+     */
+    static <J> DynamicArray<J> build(int length, Consumer<J[]> fill) {
+        DynamicArray<J> newArray = new DynamicArray<>(length);
+        fill.accept(newArray.data);
+        newArray.size = length;
+        return newArray;
+    }
+
+    /**
+     * Returns a new DynamicArray holding the elements of every part, one after the other.
+     * The result is allocated once at its final size.
+     * @param parts the arrays to concatenate
+     * @return returns the concatenation of the parts
+     */
+    @SafeVarargs
+    static <J> DynamicArray<J> concat(DynamicArrayADT<J>... parts) {
+        int total = 0;
+        for (DynamicArrayADT<J> part : parts) {
+            total += part.size();
+        }
+        DynamicArray<J> newArray = new DynamicArray<>(total);
+        for (DynamicArrayADT<J> part : parts) {
+            copyInto(part, newArray.data, newArray.size);
+            newArray.size += part.size();
+        }
+        return newArray;
+    }
+
+    /**
+     * Returns a lazy array over this one. Chains of append, insert, delete and sublist on it
+     * only record which ranges survive, and LazyDynamicArray.materialize copies them once.
+     * @return returns a LazyDynamicArray reading from this array
+     */
+    public LazyDynamicArray<J> lazy() {
+        return LazyDynamicArray.of(this);
+    }
+
+    /**
+     * Returns a window onto the range [fromIndex, toIndex) of this array without copying it.
+     * Reads and sets go straight to this array's storage, and adds and removes through the
+     * view change this array too. Once this array changes size by any other route, the view
+     * throws ConcurrentModificationException instead of reading shifted elements.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @return returns a view of that range
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public DynamicArrayADT<J> view(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+        return new DynamicArrayView<>(this, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns whether sublist returns views instead of copies.
+     * @return returns true if view mode is on
+     */
+    public boolean isViewMode() {
+        return viewMode;
+    }
+
+    /**
+     * Turns view mode on or off. In view mode sublist returns a view (see view) instead of a copy.
+     * Arrays built from this one start with view mode off.
+     * @param viewMode true to make sublist return views
+     */
+    public void setViewMode(boolean viewMode) {
+        this.viewMode = viewMode;
+    }
+
     @Override
     public J get(int index) {
         if (index < 0 || index >= size) {
@@ -61,6 +428,9 @@ public class DynamicArray<J> implements DynamicArrayADT<J> {
         }
         J oldValue = data[index];
         data[index] = value;
+        if (hashIndex != null) {
+            hashIndex.set(index, oldValue, value);
+        }
         return oldValue;
     }
 
@@ -72,11 +442,14 @@ public class DynamicArray<J> implements DynamicArrayADT<J> {
         if (size == data.length) {
             resize();
         }
-        for (int i = size; i > index; i--) {
-            data[i] = data[i - 1];
-        }
+        System.arraycopy(data, index, data, index + 1, size - index);
+        record(DynamicArrayMetrics.Operation.ADD_AT, size - index, 0);
         data[index] = value;
+        if (hashIndex != null) {
+            hashIndex.added(index, value, size);
+        }
         size++;
+        modCount++;
     }
 
     @Override
@@ -85,7 +458,11 @@ public class DynamicArray<J> implements DynamicArrayADT<J> {
             resize();
         }
         data[size] = value;
+        if (hashIndex != null) {
+            hashIndex.added(size, value, size);
+        }
         size++;
+        modCount++;
     }
 
     @Override
@@ -94,122 +471,244 @@ public class DynamicArray<J> implements DynamicArrayADT<J> {
             throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
         }
         J removedValue = data[index];
-        for (int i = index; i < size - 1; i++) {
-            data[i] = data[i + 1];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        record(DynamicArrayMetrics.Operation.REMOVE, size - index - 1, 0);
+        if (hashIndex != null) {
+            hashIndex.removed(index, removedValue, size);
         }
         data[size - 1] = null;
         size--;
+        modCount++;
+        shrinkIfSparse();
         return removedValue;
     }
 
     @Override
     public DynamicArray<J> delete(int fromIndex, int toIndex) {
-        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
-            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
-        }
-        DynamicArray<J> newArray = new DynamicArray<>(size - (toIndex - fromIndex));
-        for (int i = 0; i < fromIndex; i++) {
-            newArray.add(data[i]);
-        }
-        for (int i = toIndex; i < size; i++) {
-            newArray.add(data[i]);
-        }
-        return newArray;
+        return deleteInto(fromIndex, toIndex, derive());
     }
 
     @Override
     public DynamicArray<J> append(DynamicArrayADT<J> other) {
-        DynamicArray<J> newArray = new DynamicArray<>(this.size + other.size());
-        for (int i = 0; i < this.size; i++) {
-            newArray.add(this.data[i]);
-        }
-        for (int i = 0; i < other.size(); i++) {
-            newArray.add(other.get(i));
-        }
-        return newArray;
+        return appendInto(other, derive());
     }
 
     @Override
     public DynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
-        if (index < 0 || index > size) {
-            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        return insertInto(index, other, derive());
+    }
+
+    @Override
+    public DynamicArrayADT<J> sublist(int fromIndex, int toIndex) {
+        if (viewMode) {
+            return view(fromIndex, toIndex);
         }
-        DynamicArray<J> newArray = new DynamicArray<>(this.size + other.size());
-        for (int i = 0; i < index; i++) {
-            newArray.add(this.data[i]);
+        return sublistInto(fromIndex, toIndex, derive());
+    }
+
+    @Override
+    public DynamicArray<J> extract(int fromIndex, int toIndex) {
+        return extractInto(fromIndex, toIndex, derive());
+    }
+
+    @Override
+    public DynamicArrayADT<J> splitPrefix(int index) {
+        return splitPrefixInto(index, derive());
+    }
+
+    @Override
+    public DynamicArrayADT<J> splitSuffix(int index) {
+        return splitSuffixInto(index, derive());
+    }
+
+    /**
+     * Makes dest ready to be overwritten with length elements, reusing its backing array if it
+     * is long enough. dest must not be this array or share storage with source.
+     */
+    private J[] prepareDestination(DynamicArray<J> dest, int length, DynamicArrayADT<J> source) {
+        if (dest == this || dest == source
+                || (source instanceof DynamicArrayView && ((DynamicArrayView<J>) source).parent == dest)) {
+            throw new IllegalArgumentException("The destination must be a different array.");
         }
-        for (int i = 0; i < other.size(); i++) {
-            newArray.add(other.get(i));
+        if (length > dest.data.length) {
+            dest.releaseBackingArray(dest.data);
+            dest.data = dest.newBackingArray(length);
+            dest.size = 0;
         }
-        for (int i = index; i < this.size; i++) {
-            newArray.add(this.data[i]);
+        return dest.data;
+    }
+
+    /**
+     * Sets the size of a filled destination, clearing slots its old contents left behind.
+     */
+    private static <J> DynamicArray<J> finishDestination(DynamicArray<J> dest, int length) {
+        if (length < dest.size) {
+            Arrays.fill(dest.data, length, dest.size, null);
         }
-        return newArray;
+        dest.size = length;
+        dest.modCount++;
+        dest.indexStale(0);
+        return dest;
     }
 
-    @Override
-    public DynamicArray<J> sublist(int fromIndex, int toIndex) {
+    /**
+     * Removes [fromIndex, toIndex) from this array in place, after the range has been copied out.
+     */
+    private void removeRange(int fromIndex, int toIndex) {
+        int numToRemove = toIndex - fromIndex;
+        System.arraycopy(data, toIndex, data, fromIndex, size - toIndex);
+        Arrays.fill(data, size - numToRemove, size, null);
+        size -= numToRemove;
+        modCount++;
+        indexStale(fromIndex);
+        shrinkIfSparse();
+    }
+
+    /**
+     * Like delete, but overwrites dest instead of allocating a new array.
+     * dest keeps its backing array if it is long enough.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @param dest the array to overwrite with the result
+     * @return returns dest
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     * @throws IllegalArgumentException if dest is this array
+     */
+    public DynamicArray<J> deleteInto(int fromIndex, int toIndex, DynamicArray<J> dest) {
         if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
             throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
         }
-        DynamicArray<J> newArray = new DynamicArray<>(toIndex - fromIndex);
-        for (int i = fromIndex; i < toIndex; i++) {
-            newArray.add(this.data[i]);
+        int length = size - (toIndex - fromIndex);
+        J[] out = prepareDestination(dest, length, null);
+        System.arraycopy(data, 0, out, 0, fromIndex);
+        System.arraycopy(data, toIndex, out, fromIndex, size - toIndex);
+        record(DynamicArrayMetrics.Operation.DELETE, 0, length);
+        return finishDestination(dest, length);
+    }
+
+    /**
+     * Like append, but overwrites dest instead of allocating a new array.
+     * dest keeps its backing array if it is long enough.
+     * @param other the other DynamicArray to append
+     * @param dest the array to overwrite with the result
+     * @return returns dest
+     * @throws IllegalArgumentException if dest is this array, other, or the parent of other
+     */
+    public DynamicArray<J> appendInto(DynamicArrayADT<J> other, DynamicArray<J> dest) {
+        int length = size + other.size();
+        J[] out = prepareDestination(dest, length, other);
+        System.arraycopy(data, 0, out, 0, size);
+        copyInto(other, out, size);
+        record(DynamicArrayMetrics.Operation.APPEND, 0, length);
+        return finishDestination(dest, length);
+    }
+
+    /**
+     * Like insert, but overwrites dest instead of allocating a new array.
+     * dest keeps its backing array if it is long enough.
+     * @param index the position to insert the other DynamicArray
+     * @param other the other DynamicArray that will be inserted
+     * @param dest the array to overwrite with the result
+     * @return returns dest
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     * @throws IllegalArgumentException if dest is this array, other, or the parent of other
+     */
+    public DynamicArray<J> insertInto(int index, DynamicArrayADT<J> other, DynamicArray<J> dest) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
         }
-        return newArray;
+        int otherSize = other.size();
+        int length = size + otherSize;
+        J[] out = prepareDestination(dest, length, other);
+        System.arraycopy(data, 0, out, 0, index);
+        copyInto(other, out, index);
+        System.arraycopy(data, index, out, index + otherSize, size - index);
+        record(DynamicArrayMetrics.Operation.INSERT, 0, length);
+        return finishDestination(dest, length);
     }
 
-    @Override
-    public DynamicArray<J> extract(int fromIndex, int toIndex) {
+    /**
+     * Like sublist, but copies the range into dest instead of allocating a new array.
+     * dest keeps its backing array if it is long enough.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @param dest the array to overwrite with the result
+     * @return returns dest
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     * @throws IllegalArgumentException if dest is this array
+     */
+    public DynamicArray<J> sublistInto(int fromIndex, int toIndex, DynamicArray<J> dest) {
         if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
             throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
         }
-        DynamicArray<J> newArray = new DynamicArray<>(toIndex - fromIndex);
-        for (int i = fromIndex; i < toIndex; i++) {
-            newArray.add(this.data[i]);
-        }
-        int numToRemove = toIndex - fromIndex;
-        for (int i = fromIndex; i < size - numToRemove; i++) {
-            data[i] = data[i + numToRemove];
-        }
-        for (int i = size - numToRemove; i < size; i++) {
-            data[i] = null;
+        int length = toIndex - fromIndex;
+        J[] out = prepareDestination(dest, length, null);
+        System.arraycopy(data, fromIndex, out, 0, length);
+        record(DynamicArrayMetrics.Operation.SUBLIST, 0, length);
+        return finishDestination(dest, length);
+    }
+
+    /**
+     * Like extract, but moves the range into dest instead of allocating a new array.
+     * dest keeps its backing array if it is long enough.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @param dest the array to overwrite with the extracted elements
+     * @return returns dest
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     * @throws IllegalArgumentException if dest is this array
+     */
+    public DynamicArray<J> extractInto(int fromIndex, int toIndex, DynamicArray<J> dest) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
         }
-        size -= numToRemove;
-        return newArray;
+        int length = toIndex - fromIndex;
+        J[] out = prepareDestination(dest, length, null);
+        System.arraycopy(data, fromIndex, out, 0, length);
+        record(DynamicArrayMetrics.Operation.EXTRACT, size - toIndex, length);
+        removeRange(fromIndex, toIndex);
+        return finishDestination(dest, length);
     }
 
-    @Override
-    public DynamicArrayADT<J> splitPrefix(int index) {
+    /**
+     * Like splitPrefix, but moves the prefix into dest instead of allocating a new array.
+     * dest keeps its backing array if it is long enough.
+     * @param index the position to split at
+     * @param dest the array to overwrite with the prefix
+     * @return returns dest
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     * @throws IllegalArgumentException if dest is this array
+     */
+    public DynamicArray<J> splitPrefixInto(int index, DynamicArray<J> dest) {
         if (index < 0 || index > size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index.");
         }
-        DynamicArray<J> prefix = new DynamicArray<>(index);
-        for (int i = 0; i < index; i++) {
-            prefix.add(data[i]);
-        }
-        for (int i = index; i < size; i++) {
-            data[i - index] = data[i];
-        }
-        for (int i = size - index; i < size; i++) {
-            data[i] = null;
-        }
-        size -= index;
-        return prefix;
+        J[] out = prepareDestination(dest, index, null);
+        System.arraycopy(data, 0, out, 0, index);
+        record(DynamicArrayMetrics.Operation.SPLIT_PREFIX, size - index, index);
+        removeRange(0, index);
+        return finishDestination(dest, index);
     }
 
-    @Override
-    public DynamicArrayADT<J> splitSuffix(int index) {
+    /**
+     * Like splitSuffix, but moves the suffix into dest instead of allocating a new array.
+     * dest keeps its backing array if it is long enough.
+     * @param index the position to split at
+     * @param dest the array to overwrite with the suffix
+     * @return returns dest
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     * @throws IllegalArgumentException if dest is this array
+     */
+    public DynamicArray<J> splitSuffixInto(int index, DynamicArray<J> dest) {
         if (index < 0 || index > size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index.");
         }
-        DynamicArray<J> suffix = new DynamicArray<>(size - index);
-        for (int i = index; i < size; i++) {
-            suffix.add(data[i]);
-            data[i] = null;
-        }
-        size = index;
-        return suffix;
+        int length = size - index;
+        J[] out = prepareDestination(dest, length, null);
+        System.arraycopy(data, index, out, 0, length);
+        record(DynamicArrayMetrics.Operation.SPLIT_SUFFIX, 0, length);
+        removeRange(index, size);
+        return finishDestination(dest, length);
     }
 
     @Override
@@ -232,14 +731,920 @@ public class DynamicArray<J> implements DynamicArrayADT<J> {
         return index >= lowIndex() && index <= highIndex();
     }
 
+    /**
+     * Returns the index of the first element equal to value, or -1 if there is none.
+     * Uses the hash index if one is enabled, and otherwise scans the backing array.
+     * @param value the value to look for, may be null
+     * @return returns the lowest index holding value, or -1
+     */
     @Override
-    public String toString() {
-        StringBuilder sb = new StringBuilder("[");
+    public int indexOf(Object value) {
+        if (hashIndex != null) {
+            return hashIndex.indexOf(value, data, size);
+        }
+        if (value == null) {
+            for (int i = 0; i < size; i++) {
+                if (data[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (value.equals(data[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if some element equals value.
+     * @param value the value to look for, may be null
+     * @return returns whether value is in this array
+     */
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Sorts the elements in place. The sort is stable. Like ArrayList.sort, it counts as a
+     * structural modification, so open iterators, spliterators and views fail fast afterwards.
+     * @param comparator the order to sort by, or null for the elements' natural order
+     * @throws ClassCastException if comparator is null and the elements are not Comparable
+     */
+    public void sort(Comparator<? super J> comparator) {
+        Arrays.sort(data, 0, size, comparator);
+        modCount++;
+        indexStale(0);
+    }
+
+    /**
+     * Searches this array, which must be sorted by comparator, for key.
+     * If several elements match, any one of them may be found.
+     * @param key the value to search for
+     * @param comparator the order the array is sorted by, or null for natural order
+     * @return returns the index of key if present, and otherwise (-(insertion point) - 1)
+     */
+    public int binarySearch(J key, Comparator<? super J> comparator) {
+        return Arrays.binarySearch(data, 0, size, key, comparator);
+    }
+
+    /**
+     * Sets every element in [fromIndex, toIndex) to value.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @param value the value to store
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public void fill(int fromIndex, int toIndex, J value) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+        Arrays.fill(data, fromIndex, toIndex, value);
+        indexStale(fromIndex);
+    }
+
+    /**
+     * Returns the index of the first element that differs between this array and other,
+     * or -1 if they hold equal elements. If one is a prefix of the other, the result is the
+     * length of the shorter one. A DynamicArray is compared with Arrays.mismatch on both
+     * backing arrays. Unlike equals, other may be any DynamicArrayADT, so a view or another
+     * implementation can have no mismatch with this array yet not be equal to it.
+     * @param other the array to compare with
+     * @return returns the first differing index, or -1
+     */
+    public int mismatch(DynamicArrayADT<?> other) {
+        if (other instanceof DynamicArray) {
+            DynamicArray<?> that = (DynamicArray<?>) other;
+            return Arrays.mismatch(data, 0, size, that.data, 0, that.size);
+        }
+        int otherSize = other.size();
+        int length = Math.min(size, otherSize);
+        for (int i = 0; i < length; i++) {
+            if (!Objects.equals(data[i], other.get(i))) {
+                return i;
+            }
+        }
+        return size == otherSize ? -1 : length;
+    }
+
+    /**
+     * Compares the range [fromIndex, toIndex) of this array with [otherFrom, otherTo) of
+     * other lexicographically, like Arrays.compare.
+     * @param fromIndex, inclusive start in this array
+     * @param toIndex, exclusive end in this array
+     * @param other the array to compare with
+     * @param otherFrom, inclusive start in other
+     * @param otherTo, exclusive end in other
+     * @param comparator the order of the elements, or null for their natural order
+     * @return returns a negative number, zero or a positive number as this range is less than,
+     *         equal to or greater than the other
+     * @throws ArrayIndexOutOfBoundsException if any index is invalid
+     * @throws ClassCastException if comparator is null and the elements are not Comparable
+     */
+    @SuppressWarnings("unchecked")
+    public int compareRange(int fromIndex, int toIndex, DynamicArray<J> other, int otherFrom, int otherTo,
+                            Comparator<? super J> comparator) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex
+                || otherFrom < 0 || otherTo > other.size || otherFrom > otherTo) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+        if (comparator == null) {
+            comparator = (Comparator<? super J>) (Comparator<?>) Comparator.naturalOrder();
+        }
+        return Arrays.compare(data, fromIndex, toIndex, other.data, otherFrom, otherTo, comparator);
+    }
+
+    /**
+     * Returns true if other is a DynamicArray holding equal elements in the same order.
+     * Capacity, growth settings and view mode are not compared. Other implementations,
+     * views included, are never equal, which keeps equals symmetric; use mismatch to compare
+     * elements with any DynamicArrayADT.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DynamicArray)) {
+            return false;
+        }
+        DynamicArray<?> that = (DynamicArray<?>) other;
+        return Arrays.equals(data, 0, size, that.data, 0, that.size);
+    }
+
+    /**
+     * Returns a hash of the elements in order, computed like List.hashCode.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
         for (int i = 0; i < size; i++) {
-            sb.append(data[i]);
-            if (i < size - 1) sb.append(", ");
+            hash = 31 * hash + Objects.hashCode(data[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Builds a hash index of the elements and keeps it up to date from then on, so indexOf
+     * and contains take constant time on average instead of scanning the array.
+     * Appends, sets and removals from the end update it directly. After an edit in the
+     * middle, lookups scan the array from that position until scanning has cost more than
+     * rebuilding that part of the index would. The index costs about one map entry per
+     * distinct value.
+     */
+    public void enableHashIndex() {
+        if (hashIndex == null) {
+            hashIndex = new DynamicArrayHashIndex();
+            hashIndex.refresh(data, size);
+        }
+    }
+
+    /**
+     * Drops the hash index; indexOf goes back to scanning the array.
+     */
+    public void disableHashIndex() {
+        hashIndex = null;
+    }
+
+    /**
+     * Returns whether a hash index is enabled.
+     * @return returns true if indexOf uses a hash index
+     */
+    public boolean hasHashIndex() {
+        return hashIndex != null;
+    }
+
+    /**
+     * Tells the hash index, if any, that positions from fromIndex on may have changed.
+     */
+    private void indexStale(int fromIndex) {
+        if (hashIndex != null) {
+            hashIndex.invalidate(fromIndex);
+        }
+    }
+
+    /**
+     * Starts a batch of edits to this array. Edits are recorded against the current indices
+     * and applied together by EditBatch.apply in a single pass.
+     * @return returns an empty EditBatch for this array
+     */
+    public EditBatch<J> batch() {
+        return new EditBatch<>(this);
+    }
+
+    /**
+     * Returns an iterator that reads the backing array directly.
+     * It throws ConcurrentModificationException if this array changes size other than through the iterator.
+     * @return returns an iterator over this array
+     */
+    @Override
+    public Iterator<J> iterator() {
+        return new ArrayListIterator(0);
+    }
+
+    /**
+     * Returns a list iterator that reads the backing array directly, starting at index.
+     * It throws ConcurrentModificationException if this array changes size other than through the iterator.
+     * @param index the position of the first element returned by next
+     * @return returns a list iterator over this array
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    public ListIterator<J> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return new ArrayListIterator(index);
+    }
+
+    /**
+     * Runs action on every element in order, looping over the backing array directly.
+     * @param action the action to run on each element
+     * @throws ConcurrentModificationException if action changes the size of this array
+     */
+    @Override
+    public void forEach(Consumer<? super J> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedModCount = modCount;
+        J[] a = data;
+        int end = size;
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(a[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a Spliterator that walks the backing array directly and splits it in half.
+     * It throws ConcurrentModificationException if this array changes size during traversal.
+     * @return returns a Spliterator over this array
+     */
+    @Override
+    public Spliterator<J> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Runs action on every element, splitting the work across the common ForkJoinPool
+     * once the array reaches PARALLEL_THRESHOLD elements. Elements may be visited in any order.
+     * @param action the action to run on each element
+     * @throws ConcurrentModificationException if this array changes size while the action runs
+     */
+    public void parallelForEach(Consumer<? super J> action) {
+        J[] a = data;
+        runParallel((from, to) -> {
+            for (int i = from; i < to; i++) {
+                action.accept(a[i]);
+            }
+            return null;
+        }, (left, right) -> null);
+    }
+
+    /**
+     * Returns a new DynamicArray holding mapper applied to every element, computed in parallel
+     * once the array reaches PARALLEL_THRESHOLD elements. The result keeps this array's order
+     * and growth policy.
+     * @param mapper the function to apply to each element
+     * @return returns the mapped array
+     * @throws ConcurrentModificationException if this array changes size while mapping
+     */
+    public <R> DynamicArray<R> parallelMap(Function<? super J, ? extends R> mapper) {
+        DynamicArray<R> result = new DynamicArray<>(size, growthPolicy);
+        result.shrinkThreshold = shrinkThreshold;
+        result.metrics = metrics;
+        result.size = size;
+        J[] a = data;
+        R[] out = result.data;
+        runParallel((from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = mapper.apply(a[i]);
+            }
+            return null;
+        }, (left, right) -> null);
+        return result;
+    }
+
+    /**
+     * Returns a new DynamicArray holding the elements that match predicate, in order,
+     * tested in parallel once the array reaches PARALLEL_THRESHOLD elements. Each piece keeps
+     * its matches in an array of its own; those are gathered in order and copied once into a
+     * result allocated at their total size.
+     * @param predicate decides which elements to keep
+     * @return returns the filtered array
+     * @throws ConcurrentModificationException if this array changes size while filtering
+     */
+    public DynamicArray<J> parallelFilter(Predicate<? super J> predicate) {
+        J[] a = data;
+        List<DynamicArray<J>> pieces = runParallel((from, to) -> {
+            DynamicArray<J> kept = new DynamicArray<>(0);
+            for (int i = from; i < to; i++) {
+                if (predicate.test(a[i])) {
+                    kept.add(a[i]);
+                }
+            }
+            List<DynamicArray<J>> piece = new ArrayList<>();
+            piece.add(kept);
+            return piece;
+        }, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+        int total = 0;
+        for (DynamicArray<J> piece : pieces) {
+            total += piece.size;
+        }
+        DynamicArray<J> result = build(total, out -> {
+            int at = 0;
+            for (DynamicArray<J> piece : pieces) {
+                System.arraycopy(piece.data, 0, out, at, piece.size);
+                at += piece.size;
+            }
+        });
+        result.growthPolicy = growthPolicy;
+        result.shrinkThreshold = shrinkThreshold;
+        result.metrics = metrics;
+        return result;
+    }
+
+    /**
+     * Combines every element with op, starting from identity, in parallel once the array
+     * reaches PARALLEL_THRESHOLD elements. op must be associative and identity must be
+     * an identity for it, since pieces of the array are reduced separately and then combined.
+     * @param identity the value to start each piece from
+     * @param op an associative function combining two values
+     * @return returns the reduced value, or identity if the array is empty
+     * @throws ConcurrentModificationException if this array changes size while reducing
+     */
+    public J parallelReduce(J identity, BinaryOperator<J> op) {
+        J[] a = data;
+        return runParallel((from, to) -> {
+            J result = identity;
+            for (int i = from; i < to; i++) {
+                result = op.apply(result, a[i]);
+            }
+            return result;
+        }, op);
+    }
+
+    /**
+     * Sorts the elements with Arrays.parallelSort, which itself stays sequential for small arrays.
+     * Like sort, it counts as a structural modification.
+     * @param comparator the order to sort by, or null for the elements' natural order
+     * @throws ClassCastException if comparator is null and the elements are not Comparable
+     */
+    public void parallelSort(Comparator<? super J> comparator) {
+        Arrays.parallelSort(data, 0, size, comparator);
+        modCount++;
+        indexStale(0);
+    }
+
+    /**
+     * Replaces every element with the running combination of it and all elements before it,
+     * using Arrays.parallelPrefix. op must be associative.
+     * @param op an associative function combining two values
+     */
+    public void parallelPrefix(BinaryOperator<J> op) {
+        Arrays.parallelPrefix(data, 0, size, op);
+        indexStale(0);
+    }
+
+    /**
+     * Runs leaf over the whole array, in one call if it is small or on the common
+     * ForkJoinPool otherwise, and checks that the array did not change size meanwhile.
+     */
+    private <R> R runParallel(RangeTask.Leaf<R> leaf, BinaryOperator<R> merge) {
+        int expectedModCount = modCount;
+        R result;
+        if (size < PARALLEL_THRESHOLD) {
+            result = leaf.run(0, size);
+        } else {
+            int grain = Math.max(PARALLEL_THRESHOLD, size / (ForkJoinPool.getCommonPoolParallelism() << 2));
+            result = ForkJoinPool.commonPool().invoke(new RangeTask<>(0, size, grain, leaf, merge));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        return result;
+    }
+
+    /**
+     * Returns an estimate of toString().length(), measured from a sample of the elements.
+     * It is exact when every element prints to the same length. Nested DynamicArrays are
+     * estimated in turn rather than rendered.
+     * @return returns the estimated number of characters
+     */
+    public long estimateStringLength() {
+        if (size == 0) {
+            return 2;
+        }
+        int samples = Math.min(size, ESTIMATE_SAMPLES);
+        long sampled = 0;
+        for (int k = 0; k < samples; k++) {
+            sampled += estimateLength(data[(int) ((long) k * size / samples)]);
+        }
+        return 2 + 2L * (size - 1) + sampled * size / samples;
+    }
+
+    private static long estimateLength(Object element) {
+        if (element instanceof DynamicArray) {
+            return ((DynamicArray<?>) element).estimateStringLength();
+        }
+        if (element instanceof CharSequence) {
+            return ((CharSequence) element).length();
+        }
+        return String.valueOf(element).length();
+    }
+
+    /**
+     * Writes the same text as toString to out, element by element, without building it in memory first.
+     * @param out where to write the text
+     * @throws IOException if out fails
+     */
+    public void writeTo(Appendable out) throws IOException {
+        render(out, size, 0);
+    }
+
+    /**
+     * Writes the same text as toString to out, element by element. An unbuffered Writer
+     * gets a small buffer in front of it so that each element is not a separate write;
+     * out is flushed at the end but not closed.
+     * @param out where to write the text
+     * @throws IOException if out fails
+     */
+    public void writeTo(Writer out) throws IOException {
+        Writer buffered = out instanceof BufferedWriter ? out : new BufferedWriter(out, WRITER_BUFFER);
+        render(buffered, size, 0);
+        buffered.flush();
+    }
+
+    /**
+     * Returns a bounded rendering for logging: the first and last n elements, with the number
+     * left out in between, such as "[0, 1, ... (996 more), 998, 999]". Arrays of at most 2n
+     * elements are rendered in full, exactly as toString would.
+     * @param n how many elements to show at each end
+     * @return returns the preview text
+     * @throws IllegalArgumentException if n is negative
+     */
+    public String preview(int n) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writePreviewTo(sb, n);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw IOException", e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the text of preview(n) to out.
+     * @param out where to write the text
+     * @param n how many elements to show at each end
+     * @throws IOException if out fails
+     * @throws IllegalArgumentException if n is negative
+     */
+    public void writePreviewTo(Appendable out, int n) throws IOException {
+        if (n < 0) {
+            throw new IllegalArgumentException("Preview length cannot be negative.");
+        }
+        if (n >= (size + 1) / 2) {
+            render(out, size, 0);
+        } else {
+            render(out, n, size - 2 * n);
+        }
+    }
+
+    /**
+     * Writes the first head elements, then a note of how many are skipped if any,
+     * then every element after the skipped ones.
+     */
+    private void render(Appendable out, int head, int skipped) throws IOException {
+        out.append('[');
+        for (int i = 0; i < head; i++) {
+            if (i > 0) out.append(", ");
+            out.append(String.valueOf(data[i]));
+        }
+        if (skipped > 0) {
+            out.append(head > 0 ? ", ... (" : "... (").append(Integer.toString(skipped)).append(" more)");
+        }
+        for (int i = head + skipped; i < size; i++) {
+            if (i > 0) out.append(", ");
+            out.append(String.valueOf(data[i]));
+        }
+        out.append(']');
+    }
+
+    /**
+     * Returns the elements as text, such as "[a, b, c]". The builder starts at a small
+     * size hint and grows from there; each element is rendered once.
+     * Use writeTo to stream very large arrays instead of building one String.
+     */
+    @Override
+    public String toString() {
+        long hint = 2 + (long) TO_STRING_HINT_PER_ELEMENT * size;
+        StringBuilder sb = new StringBuilder((int) Math.min(hint, TO_STRING_HINT_CAP));
+        try {
+            render(sb, size, 0);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw IOException", e);
         }
-        sb.append("]");
         return sb.toString();
     }
+
+    /**
+     * A set of positional edits applied to a DynamicArray all at once.
+     * <p>
+     * Every index refers to the array as it was when the batch was created, so a diff can be
+     * recorded without adjusting positions for earlier edits. apply sorts the edits (linear
+     * if they were recorded in order), then builds the new contents in one pass into one new
+     * backing array: O(n + k log k) for k edits, instead of O(k n) for k separate adds and removes.
+     * <p>
+     * Edits at the same index take effect in this order: inserts (in the order they were
+     * recorded, all placed before the original element), then deletes, then sets, where the
+     * last set wins. A set on an element that the batch also deletes has no effect. Deleted
+     * ranges may overlap.
+     * @param <J> the type of elements stored in the array
+     */
+    public static final class EditBatch<J> {
+        private static final int INSERT = 0;
+        private static final int DELETE = 1;
+        private static final int SET = 2;
+
+        private static final class Edit {
+            final int kind;
+            final int from;
+            final int to;
+            final Object value;
+
+            Edit(int kind, int from, int to, Object value) {
+                this.kind = kind;
+                this.from = from;
+                this.to = to;
+                this.value = value;
+            }
+        }
+
+        private static final Comparator<Edit> ORDER =
+                Comparator.<Edit>comparingInt(e -> e.from).thenComparingInt(e -> e.kind);
+
+        private final DynamicArray<J> target;
+        private final int originalSize;
+        private final int expectedModCount;
+        private final List<Edit> edits = new ArrayList<>();
+        private int insertCount;
+        private boolean applied;
+
+        private EditBatch(DynamicArray<J> target) {
+            this.target = target;
+            this.originalSize = target.size;
+            this.expectedModCount = target.modCount;
+        }
+
+        private EditBatch<J> record(Edit edit) {
+            if (applied) {
+                throw new IllegalStateException("The batch has already been applied.");
+            }
+            edits.add(edit);
+            return this;
+        }
+
+        /**
+         * Inserts value before the element originally at index, or at the end if index is the original size.
+         * @param index the original position to insert at
+         * @param value element to insert
+         * @return returns this batch
+         * @throws ArrayIndexOutOfBoundsException if index is invalid
+         */
+        public EditBatch<J> insert(int index, J value) {
+            if (index < 0 || index > originalSize) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            record(new Edit(INSERT, index, index, value));
+            insertCount++;
+            return this;
+        }
+
+        /**
+         * Removes the element originally at index.
+         * @param index the original position of the element to remove
+         * @return returns this batch
+         * @throws ArrayIndexOutOfBoundsException if index is invalid
+         */
+        public EditBatch<J> remove(int index) {
+            if (index < 0 || index >= originalSize) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            return record(new Edit(DELETE, index, index + 1, null));
+        }
+
+        /**
+         * Removes the elements originally in [fromIndex, toIndex).
+         * @param fromIndex, inclusive start
+         * @param toIndex, exclusive end
+         * @return returns this batch
+         * @throws ArrayIndexOutOfBoundsException if either index is invalid
+         */
+        public EditBatch<J> delete(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > originalSize || fromIndex > toIndex) {
+                throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+            }
+            return fromIndex == toIndex ? this : record(new Edit(DELETE, fromIndex, toIndex, null));
+        }
+
+        /**
+         * Replaces the element originally at index.
+         * @param index the original position of the element
+         * @param value the new value
+         * @return returns this batch
+         * @throws ArrayIndexOutOfBoundsException if index is invalid
+         */
+        public EditBatch<J> set(int index, J value) {
+            if (index < 0 || index >= originalSize) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            return record(new Edit(SET, index, index, value));
+        }
+
+        /**
+         * Returns the number of edits recorded so far.
+         * @return returns the number of edits
+         */
+        public int size() {
+            return edits.size();
+        }
+
+        /**
+         * Applies every recorded edit to the array. A batch can only be applied once.
+         * @throws ConcurrentModificationException if the array changed size since the batch was created
+         * @throws IllegalStateException if the batch was already applied
+         */
+        @SuppressWarnings("unchecked")
+        public void apply() {
+            if (applied) {
+                throw new IllegalStateException("The batch has already been applied.");
+            }
+            if (target.modCount != expectedModCount) {
+                throw new ConcurrentModificationException("The array was structurally modified.");
+            }
+            applied = true;
+            if (edits.isEmpty()) {
+                return;
+            }
+            // List.sort is stable, so inserts at one index keep their order and the last set stays last
+            edits.sort(ORDER);
+
+            int deleted = 0;
+            int deletedUntil = 0;
+            for (Edit edit : edits) {
+                if (edit.kind == DELETE && edit.to > deletedUntil) {
+                    deleted += edit.to - Math.max(edit.from, deletedUntil);
+                    deletedUntil = edit.to;
+                }
+            }
+            int newSize = originalSize + insertCount - deleted;
+
+            J[] data = target.data;
+            J[] out = newSize > data.length
+                    ? target.newBackingArray(Math.max(newSize, target.growthPolicy.grow(data.length, newSize)))
+                    : target.newBackingArray(data.length);
+            int src = 0;
+            int dst = 0;
+            int lastSet = -1;
+            for (Edit edit : edits) {
+                int position = edit.from;
+                if (position > src) {
+                    System.arraycopy(data, src, out, dst, position - src);
+                    dst += position - src;
+                    src = position;
+                }
+                if (edit.kind == INSERT) {
+                    out[dst++] = (J) edit.value;
+                } else if (edit.kind == DELETE) {
+                    src = Math.max(src, edit.to);
+                } else if (position == src) {
+                    out[dst++] = (J) edit.value;
+                    src++;
+                    lastSet = position;
+                } else if (position == lastSet) {
+                    out[dst - 1] = (J) edit.value;
+                }
+            }
+            System.arraycopy(data, src, out, dst, originalSize - src);
+            target.record(DynamicArrayMetrics.Operation.BATCH, 0, newSize - insertCount);
+
+            target.releaseBackingArray(data);
+            target.data = out;
+            target.size = newSize;
+            target.modCount++;
+            target.indexStale(edits.get(0).from);
+            target.shrinkIfSparse();
+        }
+    }
+
+    /**
+     * Splits [from, to) in halves until the pieces are no longer than grain,
+     * runs leaf on each piece and merges the results in index order.
+     */
+    @SuppressWarnings("serial")
+    private static final class RangeTask<R> extends RecursiveTask<R> {
+        interface Leaf<R> {
+            R run(int from, int to);
+        }
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final Leaf<R> leaf;
+        private final BinaryOperator<R> merge;
+
+        RangeTask(int from, int to, int grain, Leaf<R> leaf, BinaryOperator<R> merge) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.leaf = leaf;
+            this.merge = merge;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= grain) {
+                return leaf.run(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            RangeTask<R> left = new RangeTask<>(from, mid, grain, leaf, merge);
+            left.fork();
+            R right = new RangeTask<>(mid, to, grain, leaf, merge).compute();
+            return merge.apply(left.join(), right);
+        }
+    }
+
+    /**
+     * A ListIterator over the backing array. Adds and removes through it keep it valid;
+     * any other change in size makes its next call throw ConcurrentModificationException.
+     */
+    private final class ArrayListIterator implements ListIterator<J> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        ArrayListIterator(int index) {
+            this.cursor = index;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public J next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return data[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public J previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --cursor;
+            return data[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            DynamicArray.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(J value) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            DynamicArray.this.set(lastReturned, value);
+        }
+
+        @Override
+        public void add(J value) {
+            checkForComodification();
+            DynamicArray.this.add(cursor++, value);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * A Spliterator over the backing array. Its end is fixed when traversal starts,
+     * and it fails fast if the array changes size after that.
+     */
+    private final class ArraySpliterator implements Spliterator<J> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<J> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new ArraySpliterator(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super J> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int hi = getFence();
+            if (index < hi) {
+                J element = data[index++];
+                action.accept(element);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super J> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int hi = getFence();
+            J[] a = data;
+            for (int i = index; i < hi; i++) {
+                action.accept(a[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
 }
@@ -1,9 +1,17 @@
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * just like an Arraylist but will implement it ourselves
  * @param <J> the type of elements stored in the array
  */
 
-public interface DynamicArrayADT<J>{
+public interface DynamicArrayADT<J> extends Iterable<J> {
 
     //Group 1
 
@@ -147,5 +155,100 @@ public interface DynamicArrayADT<J>{
     default boolean indexInRange(int index){
         return index >= lowIndex() && index <= highIndex();
     }
+
+
+    //Search
+
+    /**
+     * Returns the index of the first element equal to value, or -1 if there is none.
+     * @param value the value to look for, may be null
+     * @return returns the lowest index holding value, or -1
+     */
+    default int indexOf(Object value) {
+        int n = size();
+        for (int i = 0; i < n; i++) {
+            if (Objects.equals(value, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if some element equals value.
+     * @param value the value to look for, may be null
+     * @return returns whether value is in this array
+     */
+    default boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+
+    //Iteration
+
+    /**
+     * Returns an iterator over the elements in index order.
+     * It fails fast if the array changes size other than through the iterator.
+     * @return returns an iterator over this array
+     */
+    @Override
+    default Iterator<J> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements, starting at the beginning.
+     * @return returns a list iterator over this array
+     */
+    default ListIterator<J> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements, starting at index.
+     * It fails fast if the array changes size other than through the iterator.
+     * @param index the position of the first element returned by next
+     * @return returns a list iterator over this array
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    default ListIterator<J> listIterator(int index) {
+        return new IndexedListIterator<>(this, index);
+    }
+
+    /**
+     * Returns a java.util.List view of this array. Nothing is copied: reads and writes
+     * through the list go straight to the array, and changes to the array show in the list.
+     * @return returns a List backed by this array
+     */
+    default List<J> asList() {
+        return new DynamicArrayList<>(this);
+    }
+
+
+    //Streams
+
+    /**
+     * Returns a Spliterator over the elements in index order that splits its range in half.
+     * @return returns a Spliterator over this array
+     */
+    default Spliterator<J> spliterator() {
+        return new IndexedSpliterator<>(this, 0, -1);
+    }
+
+    /**
+     * Returns a sequential Stream of the elements in index order.
+     * @return returns a Stream over this array
+     */
+    default Stream<J> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel Stream of the elements in index order.
+     * @return returns a parallel Stream over this array
+     */
+    default Stream<J> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
     
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for DynamicArray.EditBatch.
+ */
+public class DynamicArrayBatchTest {
+
+    // Helper: builds array from string
+    public DynamicArray<Character> stringToArray(String s) {
+        DynamicArray<Character> result = new DynamicArray<>(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    @Test
+    public void testMixedEdits() {
+        DynamicArray<Character> arr = stringToArray("abcdefgh");
+        arr.batch()
+                .insert(0, '<')
+                .set(1, 'B')
+                .delete(2, 4)
+                .insert(3, '!')
+                .remove(6)
+                .insert(8, '>')
+                .apply();
+        assertEquals("[<, a, B, !, e, f, h, >]", arr.toString());
+    }
+
+    @Test
+    public void testSamePositionOrdering() {
+        // Inserts in recorded order, before the original element; the last set wins
+        DynamicArray<Character> arr = stringToArray("abc");
+        arr.batch().set(1, 'x').insert(1, '1').set(1, 'y').insert(1, '2').apply();
+        assertEquals("[a, 1, 2, y, c]", arr.toString());
+
+        // A set on a deleted element is dropped, but inserts at that index survive
+        DynamicArray<Character> arr2 = stringToArray("abcd");
+        arr2.batch().set(2, 'x').delete(1, 3).insert(2, '+').apply();
+        assertEquals("[a, +, d]", arr2.toString());
+    }
+
+    @Test
+    public void testOverlappingDeletes() {
+        DynamicArray<Character> arr = stringToArray("abcdefgh");
+        arr.batch().delete(1, 5).delete(3, 7).remove(2).apply();
+        assertEquals("[a, h]", arr.toString());
+        assertEquals(2, arr.size());
+    }
+
+    @Test
+    public void testGrowsOnce() {
+        DynamicArray<Character> arr = stringToArray("ab");
+        DynamicArray.EditBatch<Character> batch = arr.batch();
+        for (int i = 0; i < 10; i++) {
+            batch.insert(1, (char) ('0' + i));
+        }
+        assertEquals(10, batch.size());
+        batch.apply();
+        assertEquals("[a, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, b]", arr.toString());
+        assertEquals(12, arr.capacity());
+    }
+
+    @Test
+    public void testBadUse() {
+        DynamicArray<Character> arr = stringToArray("abc");
+        DynamicArray.EditBatch<Character> batch = arr.batch();
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> batch.insert(4, 'x'));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> batch.remove(3));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> batch.set(-1, 'x'));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> batch.delete(2, 1));
+
+        batch.remove(0);
+        arr.add('d');
+        assertThrows(ConcurrentModificationException.class, batch::apply);
+
+        DynamicArray.EditBatch<Character> batch2 = arr.batch();
+        batch2.apply();
+        assertThrows(IllegalStateException.class, batch2::apply);
+        assertThrows(IllegalStateException.class, () -> batch2.set(0, 'x'));
+    }
+
+    @Test
+    public void testRandomAgainstModel() {
+        Random random = new Random(12);
+        for (int round = 0; round < 200; round++) {
+            int n = random.nextInt(30);
+            DynamicArray<Integer> arr = new DynamicArray<>(0);
+            for (int i = 0; i < n; i++) {
+                arr.add(i);
+            }
+
+            // Model: per original index, the inserts before it, whether it is deleted, and its last set
+            List<List<Integer>> insertsBefore = new ArrayList<>();
+            for (int i = 0; i <= n; i++) {
+                insertsBefore.add(new ArrayList<>());
+            }
+            boolean[] deleted = new boolean[n];
+            Integer[] setTo = new Integer[n];
+
+            DynamicArray.EditBatch<Integer> batch = arr.batch();
+            int edits = random.nextInt(12);
+            for (int e = 0; e < edits; e++) {
+                int op = random.nextInt(3);
+                int value = 1000 + round * 100 + e;
+                if (op == 0 || n == 0) {
+                    int index = random.nextInt(n + 1);
+                    batch.insert(index, value);
+                    insertsBefore.get(index).add(value);
+                } else if (op == 1) {
+                    int from = random.nextInt(n);
+                    int to = from + random.nextInt(Math.min(4, n - from) + 1);
+                    batch.delete(from, to);
+                    for (int i = from; i < to; i++) {
+                        deleted[i] = true;
+                    }
+                } else {
+                    int index = random.nextInt(n);
+                    batch.set(index, value);
+                    setTo[index] = value;
+                }
+            }
+            batch.apply();
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i <= n; i++) {
+                expected.addAll(insertsBefore.get(i));
+                if (i < n && !deleted[i]) {
+                    expected.add(setTo[i] != null ? setTo[i] : i);
+                }
+            }
+            assertEquals(expected.toString(), arr.toString());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the growth policies and capacity management of DynamicArray.
+ */
+public class DynamicArrayCapacityTest {
+
+    // Helper: builds an array holding 0 .. n-1
+    public DynamicArray<Integer> filled(DynamicArray<Integer> arr, int n) {
+        for (int i = 0; i < n; i++) {
+            arr.add(i);
+        }
+        return arr;
+    }
+
+    // Compare contents against 0 .. n-1
+    public void compareToRange(DynamicArrayADT<Integer> arr, int n) {
+        assertEquals(n, arr.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals("Mismatch at index " + i, Integer.valueOf(i), arr.get(i));
+        }
+    }
+
+    // ~*~ Growth policies ~*~
+    @Test
+    public void testDoubling() {
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        int[] expected = {1, 2, 4, 4, 8};
+        for (int i = 0; i < expected.length; i++) {
+            arr.add(i);
+            assertEquals(expected[i], arr.capacity());
+        }
+        compareToRange(arr, 5);
+    }
+
+    @Test
+    public void testOneAndHalf() {
+        DynamicArray<Integer> arr = new DynamicArray<>(4, GrowthPolicy.oneAndHalf());
+        filled(arr, 5);
+        assertEquals(7, arr.capacity());
+        filled(arr, 3);
+        assertEquals(11, arr.capacity());
+    }
+
+    @Test
+    public void testFixedIncrement() {
+        DynamicArray<Integer> arr = new DynamicArray<>(0, GrowthPolicy.fixedIncrement(3));
+        filled(arr, 7);
+        assertEquals(9, arr.capacity());
+        compareToRange(arr, 7);
+
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.fixedIncrement(0));
+    }
+
+    @Test
+    public void testCustomPolicy() {
+        DynamicArray<Integer> arr = new DynamicArray<>(2, (current, min) -> current * 4);
+        filled(arr, 3);
+        assertEquals(8, arr.capacity());
+
+        // A policy that under-allocates still gets the room it needs
+        arr.setGrowthPolicy((current, min) -> 0);
+        filled(arr, 10);
+        compareToRange(arr.splitSuffix(3), 10);
+
+        assertThrows(NullPointerException.class, () -> new DynamicArray<Integer>(1, null));
+    }
+
+    @Test
+    public void testDerivedArraysKeepPolicy() {
+        DynamicArray<Integer> arr = filled(new DynamicArray<>(0, GrowthPolicy.fixedIncrement(5)), 4);
+        DynamicArray<Integer> copy = arr.delete(4, 4);
+        copy.add(4);
+        assertEquals(9, copy.capacity());
+    }
+
+    // ~*~ ensureCapacity / trimToSize ~*~
+    @Test
+    public void testEnsureCapacity() {
+        DynamicArray<Integer> arr = filled(new DynamicArray<>(2), 2);
+        arr.ensureCapacity(100);
+        assertTrue(arr.capacity() >= 100);
+        compareToRange(arr, 2);
+
+        int capacity = arr.capacity();
+        arr.ensureCapacity(10);
+        assertEquals(capacity, arr.capacity());
+    }
+
+    @Test
+    public void testTrimToSize() {
+        DynamicArray<Integer> arr = filled(new DynamicArray<>(50), 5);
+        arr.trimToSize();
+        assertEquals(5, arr.capacity());
+        compareToRange(arr, 5);
+
+        arr.add(5);
+        compareToRange(arr, 6);
+
+        DynamicArray<Integer> empty = new DynamicArray<>(8);
+        empty.trimToSize();
+        assertEquals(0, empty.capacity());
+        empty.add(0);
+        compareToRange(empty, 1);
+    }
+
+    // ~*~ Automatic shrinking ~*~
+    @Test
+    public void testNoShrinkByDefault() {
+        DynamicArray<Integer> arr = filled(new DynamicArray<>(0), 1000);
+        arr.splitSuffix(1);
+        assertEquals(1024, arr.capacity());
+    }
+
+    @Test
+    public void testShrinkOnRemove() {
+        DynamicArray<Integer> arr = filled(new DynamicArray<>(0), 64);
+        arr.setShrinkThreshold(0.25);
+        while (arr.size() > 15) {
+            arr.remove(arr.size() - 1);
+        }
+        assertEquals(30, arr.capacity());
+        compareToRange(arr, 15);
+    }
+
+    @Test
+    public void testShrinkOnBulkRemoval() {
+        DynamicArray<Integer> arr = filled(new DynamicArray<>(0), 1000);
+        arr.setShrinkThreshold(0.25);
+        compareToRange(arr.splitPrefix(990), 990);
+        assertEquals(20, arr.capacity());
+
+        DynamicArray<Integer> arr2 = filled(new DynamicArray<>(0), 1000);
+        arr2.setShrinkThreshold(0.25);
+        arr2.extract(10, 1000);
+        assertEquals(20, arr2.capacity());
+        compareToRange(arr2, 10);
+
+        DynamicArray<Integer> arr3 = filled(new DynamicArray<>(0), 1000);
+        arr3.setShrinkThreshold(0.25);
+        arr3.splitSuffix(0);
+        assertEquals(1, arr3.capacity());
+    }
+
+    @Test
+    public void testShrinkThresholdRange() {
+        DynamicArray<Integer> arr = new DynamicArray<>(1);
+        assertThrows(IllegalArgumentException.class, () -> arr.setShrinkThreshold(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> arr.setShrinkThreshold(1.0));
+        assertThrows(IllegalArgumentException.class, () -> arr.setShrinkThreshold(Double.NaN));
+        arr.setShrinkThreshold(0.5);
+        assertEquals(0.5, arr.getShrinkThreshold(), 0.0);
+    }
+}
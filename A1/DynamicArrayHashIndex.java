@@ -0,0 +1,169 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A hash index from element values to the positions holding them, kept by a DynamicArray
+ * that has one enabled (see DynamicArray.enableHashIndex).
+ * <p>
+ * Appends, sets and removals of the last element update the index in constant time. An add
+ * or remove anywhere else shifts every later position, so rather than fixing them one by one
+ * the index only lowers the point below which its positions are exact. A lookup that cannot
+ * be answered from the exact part scans the stale suffix linearly, as indexOf without an
+ * index would. Rehashing that suffix costs a map update per element, far more than the
+ * scan, so the index is rebuilt only once lookups have spent twice that cost scanning since
+ * the last shifting edit. Edits in the middle that alternate with lookups therefore cost no
+ * more than plain scans, and repeated lookups between edits soon get constant time again.
+ */
+class DynamicArrayHashIndex {
+    private final Map<Object, Positions> positions = new HashMap<>();
+    /** Positions below this are exact. */
+    private int validUpTo;
+    /** Every recorded position is below this; those in [validUpTo, recorded) are stale. */
+    private int recorded;
+    /** Elements scanned by lookups since the last shifting edit or rebuild. */
+    private long scanned;
+
+    /**
+     * The positions of one value, in ascending order.
+     */
+    private static final class Positions {
+        int[] at = new int[2];
+        int count;
+
+        void add(int position) {
+            if (count == at.length) {
+                at = Arrays.copyOf(at, count * 2);
+            }
+            int i = count;
+            if (count > 0 && at[count - 1] > position) {
+                i = -Arrays.binarySearch(at, 0, count, position) - 1;
+                System.arraycopy(at, i, at, i + 1, count - i);
+            }
+            at[i] = position;
+            count++;
+        }
+
+        void remove(int position) {
+            int i = Arrays.binarySearch(at, 0, count, position);
+            if (i >= 0) {
+                System.arraycopy(at, i + 1, at, i, count - i - 1);
+                count--;
+            }
+        }
+
+        void truncate(int fromPosition) {
+            while (count > 0 && at[count - 1] >= fromPosition) {
+                count--;
+            }
+        }
+    }
+
+    private void put(Object value, int position) {
+        positions.computeIfAbsent(value, v -> new Positions()).add(position);
+    }
+
+    private void drop(Object value, int position) {
+        Positions p = positions.get(value);
+        if (p != null) {
+            p.remove(position);
+            if (p.count == 0) {
+                positions.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Records that value was stored at index by a set.
+     */
+    void set(int index, Object oldValue, Object value) {
+        if (index < validUpTo) {
+            drop(oldValue, index);
+            put(value, index);
+        }
+    }
+
+    /**
+     * Records that value was inserted at index into an array of oldSize elements.
+     */
+    void added(int index, Object value, int oldSize) {
+        if (index == oldSize && validUpTo == oldSize && recorded == oldSize) {
+            put(value, index);
+            validUpTo++;
+            recorded++;
+        } else {
+            invalidate(index);
+        }
+    }
+
+    /**
+     * Records that value was removed from index of an array of oldSize elements.
+     */
+    void removed(int index, Object value, int oldSize) {
+        if (index == oldSize - 1 && validUpTo == oldSize && recorded == oldSize) {
+            drop(value, index);
+            validUpTo--;
+            recorded--;
+        } else {
+            invalidate(index);
+        }
+    }
+
+    /**
+     * Marks every position from fromIndex on as unknown.
+     */
+    void invalidate(int fromIndex) {
+        validUpTo = Math.min(validUpTo, fromIndex);
+        scanned = 0;
+    }
+
+    /**
+     * Returns the first position of value in data[0, size), or -1.
+     */
+    int indexOf(Object value, Object[] data, int size) {
+        Positions p = positions.get(value);
+        if (p != null && p.at[0] < validUpTo) {
+            return p.at[0];
+        }
+        if (validUpTo >= size && recorded <= validUpTo) {
+            return -1;
+        }
+        int found = -1;
+        for (int i = validUpTo; i < size; i++) {
+            if (Objects.equals(value, data[i])) {
+                found = i;
+                break;
+            }
+        }
+        scanned += (found < 0 ? size : found + 1) - validUpTo;
+        long rebuildCost = (size - validUpTo) + (recorded > validUpTo ? positions.size() : 0);
+        if (scanned >= 2 * rebuildCost) {
+            refresh(data, size);
+        }
+        return found;
+    }
+
+    /**
+     * Drops the stale positions and indexes data[validUpTo, size).
+     */
+    void refresh(Object[] data, int size) {
+        if (recorded > validUpTo) {
+            Iterator<Positions> it = positions.values().iterator();
+            while (it.hasNext()) {
+                Positions p = it.next();
+                p.truncate(validUpTo);
+                if (p.count == 0) {
+                    it.remove();
+                }
+            }
+        }
+        for (int i = validUpTo; i < size; i++) {
+            put(data[i], i);
+        }
+        validUpTo = size;
+        recorded = size;
+        scanned = 0;
+    }
+}
@@ -0,0 +1,100 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the iterators of DynamicArray and the default ones of DynamicArrayADT.
+ */
+public class DynamicArrayIterationTest {
+
+    // Helper: fills any array from string
+    public <A extends DynamicArrayADT<Character>> A fill(A arr, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            arr.add(s.charAt(i));
+        }
+        return arr;
+    }
+
+    @Test
+    public void testListIteratorEdits() {
+        // DynamicArray overrides the iterators; RopeDynamicArray uses the defaults
+        for (DynamicArrayADT<Character> arr : List.<DynamicArrayADT<Character>>of(
+                fill(new DynamicArray<>(0), "abcde"), fill(new RopeDynamicArray<>(0), "abcde"))) {
+            ListIterator<Character> it = arr.listIterator();
+            while (it.hasNext()) {
+                char c = it.next();
+                if (c == 'b') {
+                    it.remove();
+                } else if (c == 'c') {
+                    it.set('C');
+                    it.add('+');
+                }
+            }
+            assertEquals("[a, C, +, d, e]", arr.toString());
+
+            assertEquals(Character.valueOf('e'), it.previous());
+            assertEquals(4, it.nextIndex());
+            assertThrows(IllegalStateException.class, () -> {
+                ListIterator<Character> fresh = arr.listIterator(2);
+                fresh.remove();
+            });
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> arr.listIterator(6));
+            assertThrows(NoSuchElementException.class, () -> arr.listIterator(5).next());
+        }
+    }
+
+    @Test
+    public void testIteratorsFailFast() {
+        for (DynamicArrayADT<Character> arr : List.<DynamicArrayADT<Character>>of(
+                fill(new DynamicArray<>(0), "abc"), fill(new RopeDynamicArray<>(0), "abc"))) {
+            Iterator<Character> it = arr.iterator();
+            it.next();
+            arr.add('d');
+            assertThrows(ConcurrentModificationException.class, it::next);
+
+            // Sets are not structural
+            Iterator<Character> it2 = arr.iterator();
+            it2.next();
+            arr.set(0, 'z');
+            assertEquals(Character.valueOf('b'), it2.next());
+        }
+    }
+
+    @Test
+    public void testForEachFailsFast() {
+        DynamicArray<Character> arr = fill(new DynamicArray<>(0), "abc");
+        assertThrows(ConcurrentModificationException.class, () -> arr.forEach(c -> arr.add('x')));
+    }
+
+    @Test
+    public void testAsListFailsFast() {
+        DynamicArray<Character> arr = fill(new DynamicArray<>(0), "abc");
+        List<Character> list = arr.asList();
+        Iterator<Character> it = list.iterator();
+        it.next();
+        list.remove(0);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        assertEquals("[b, c]", list.toString());
+    }
+
+    @Test
+    public void testConcurrentIteratorIsSnapshot() {
+        ConcurrentDynamicArray<Character> arr = fill(new ConcurrentDynamicArray<>(0), "abc");
+        Iterator<Character> it = arr.iterator();
+        arr.add('d');
+        arr.remove(0);
+        StringBuilder sb = new StringBuilder();
+        it.forEachRemaining(sb::append);
+        assertEquals("abc", sb.toString());
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Character> it2 = arr.iterator();
+            it2.next();
+            it2.remove();
+        });
+    }
+}
@@ -0,0 +1,78 @@
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A java.util.List backed by a DynamicArrayADT, so the array can be passed to JDK APIs
+ * without copying. Every call goes straight to the array, and changes made through either
+ * one are seen by the other. Iteration uses the array's own iterators.
+ * @param <J> the type of elements stored in the array
+ */
+final class DynamicArrayList<J> extends AbstractList<J> implements RandomAccess {
+    private final DynamicArrayADT<J> source;
+
+    DynamicArrayList(DynamicArrayADT<J> source) {
+        this.source = source;
+    }
+
+    @Override
+    public J get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public J set(int index, J value) {
+        return source.set(index, value);
+    }
+
+    @Override
+    public void add(int index, J value) {
+        source.add(index, value);
+        modCount++;
+    }
+
+    @Override
+    public J remove(int index) {
+        J removedValue = source.remove(index);
+        modCount++;
+        return removedValue;
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        return source.indexOf(value);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return source.contains(value);
+    }
+
+    @Override
+    public Iterator<J> iterator() {
+        return source.iterator();
+    }
+
+    @Override
+    public ListIterator<J> listIterator(int index) {
+        return source.listIterator(index);
+    }
+
+    @Override
+    public Spliterator<J> spliterator() {
+        return source.spliterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super J> action) {
+        source.forEach(action);
+    }
+}
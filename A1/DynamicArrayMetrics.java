@@ -0,0 +1,203 @@
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+/**
+ * Counters describing how DynamicArrays spend their time moving elements: how often they
+ * resize, and how many elements each operation shifts in place or copies into a new array.
+ * <p>
+ * Attach an instance to arrays with DynamicArray.setMetrics, or to every array created from
+ * then on with DynamicArray.setDefaultMetrics. Arrays without metrics skip all of this at
+ * the cost of a null check. Counters are LongAdders, so arrays used from many threads do not
+ * contend on them. register publishes the counters over JMX; resizes are also reported as
+ * DynamicArrayResizeEvent Flight Recorder events.
+ */
+public class DynamicArrayMetrics implements DynamicArrayMetricsMXBean {
+
+    /**
+     * Bytes counted per element copied: the size of a reference in this JVM. That is 4 bytes
+     * with compressed oops, which HotSpot uses by default for heaps under 32 GB, and 8 without.
+     */
+    static final int REFERENCE_BYTES = referenceBytes();
+
+    /**
+     * Asks HotSpot whether it compresses references. JVMs that cannot say are assumed to use
+     * full 8-byte references.
+     */
+    private static int referenceBytes() {
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return hotSpot != null && "true".equals(hotSpot.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        } catch (RuntimeException | LinkageError e) {
+            return 8;
+        }
+    }
+
+    /**
+     * The DynamicArray operations that move elements.
+     */
+    public enum Operation {
+        ADD_AT, REMOVE, EXTRACT, SPLIT_PREFIX, SPLIT_SUFFIX, APPEND, INSERT, SUBLIST, DELETE, BATCH
+    }
+
+    private static final DynamicArrayMetrics GLOBAL = new DynamicArrayMetrics();
+
+    private final LongAdder resizes = new LongAdder();
+    /** Elements copied by resizes, which is also the total size right after them. */
+    private final LongAdder resizeCopies = new LongAdder();
+    private final LongAdder capacityAfterResize = new LongAdder();
+    private final LongAdder[] calls = adders();
+    private final LongAdder[] shifted = adders();
+    private final LongAdder[] copied = adders();
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[Operation.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Returns a shared instance, for applications that want one set of counters for all their arrays.
+     * @return returns the shared DynamicArrayMetrics
+     */
+    public static DynamicArrayMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Records a reallocation of a backing array holding size elements.
+     */
+    void resized(int oldCapacity, int newCapacity, int size) {
+        resizes.increment();
+        resizeCopies.add(size);
+        capacityAfterResize.add(newCapacity);
+        DynamicArrayResizeEvent event = new DynamicArrayResizeEvent();
+        if (event.isEnabled()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records one call of operation that shifted and copied the given numbers of elements.
+     */
+    void record(Operation operation, int shiftedElements, int copiedElements) {
+        int i = operation.ordinal();
+        calls[i].increment();
+        if (shiftedElements > 0) {
+            shifted[i].add(shiftedElements);
+        }
+        if (copiedElements > 0) {
+            copied[i].add(copiedElements);
+        }
+    }
+
+    /**
+     * Returns how many times operation ran.
+     * @param operation the operation
+     * @return returns the call count
+     */
+    public long getCount(Operation operation) {
+        return calls[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns how many elements operation moved within an existing backing array.
+     * @param operation the operation
+     * @return returns the number of elements shifted
+     */
+    public long getShifted(Operation operation) {
+        return shifted[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns how many elements operation copied into a new array.
+     * @param operation the operation
+     * @return returns the number of elements copied
+     */
+    public long getCopied(Operation operation) {
+        return copied[operation.ordinal()].sum();
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getElementsCopiedOnResize() {
+        return resizeCopies.sum();
+    }
+
+    @Override
+    public long getBytesCopied() {
+        long elements = resizeCopies.sum();
+        for (int i = 0; i < calls.length; i++) {
+            elements += shifted[i].sum() + copied[i].sum();
+        }
+        return elements * REFERENCE_BYTES;
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(calls);
+    }
+
+    @Override
+    public Map<String, Long> getElementsShifted() {
+        return byOperation(shifted);
+    }
+
+    @Override
+    public Map<String, Long> getElementsCopied() {
+        return byOperation(copied);
+    }
+
+    private static Map<String, Long> byOperation(LongAdder[] adders) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            result.put(operation.name(), adders[operation.ordinal()].sum());
+        }
+        return result;
+    }
+
+    @Override
+    public double getResizeSlackRatio() {
+        long capacity = capacityAfterResize.sum();
+        return capacity == 0 ? 0.0 : 1.0 - (double) resizeCopies.sum() / capacity;
+    }
+
+    @Override
+    public void reset() {
+        resizes.reset();
+        resizeCopies.reset();
+        capacityAfterResize.reset();
+        for (int i = 0; i < calls.length; i++) {
+            calls[i].reset();
+            shifted[i].reset();
+            copied[i].reset();
+        }
+    }
+
+    /**
+     * Registers these counters with the platform MBean server.
+     * @param name distinguishes this instance from other registered ones
+     * @return returns the ObjectName it was registered under
+     * @throws JMException if the name is malformed or already taken
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("DynamicArray:type=Metrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+}
@@ -0,0 +1,59 @@
+import java.util.Map;
+
+/**
+ * The JMX view of a DynamicArrayMetrics. All counts are totals since creation or the last reset.
+ */
+public interface DynamicArrayMetricsMXBean {
+
+    /**
+     * Returns how many times a backing array was reallocated, growing or shrinking.
+     * @return returns the number of resizes
+     */
+    long getResizeCount();
+
+    /**
+     * Returns how many elements were copied into new backing arrays by resizes.
+     * @return returns the number of elements copied by resizes
+     */
+    long getElementsCopiedOnResize();
+
+    /**
+     * Returns an estimate of the bytes moved by resizes, shifts and copies, counting one
+     * reference per element at this JVM's reference size: 4 bytes with compressed oops, 8 without.
+     * @return returns the estimated number of bytes copied
+     */
+    long getBytesCopied();
+
+    /**
+     * Returns how many times each operation ran, by operation name.
+     * @return returns the call count per operation
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Returns how many elements each operation moved within an existing backing array.
+     * @return returns the elements shifted per operation
+     */
+    Map<String, Long> getElementsShifted();
+
+    /**
+     * Returns how many elements each operation copied into a new array.
+     * @return returns the elements copied per operation
+     */
+    Map<String, Long> getElementsCopied();
+
+    /**
+     * Returns the fraction of capacity left unused right after each resize, summed over all
+     * resizes including shrinks and trimToSize: 0 means every resize allocated exactly what
+     * was needed. This is slack at resize time, not the waste of arrays as they are now;
+     * removes and extracts between resizes do not change it. Under doubling it stays near
+     * 0.5. For one array's current waste, compare its size with its capacity.
+     * @return returns the slack ratio, between 0 and 1
+     */
+    double getResizeSlackRatio();
+
+    /**
+     * Sets every counter back to zero.
+     */
+    void reset();
+}
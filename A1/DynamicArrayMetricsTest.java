@@ -0,0 +1,155 @@
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for DynamicArrayMetrics and its JMX and Flight Recorder reporting.
+ */
+public class DynamicArrayMetricsTest {
+
+    // Helper: builds an array holding 0 .. n-1 that reports to metrics
+    public DynamicArray<Integer> filled(DynamicArrayMetrics metrics, int n) {
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        arr.setMetrics(metrics);
+        for (int i = 0; i < n; i++) {
+            arr.add(i);
+        }
+        return arr;
+    }
+
+    @After
+    public void clearDefault() {
+        DynamicArray.setDefaultMetrics(null);
+    }
+
+    @Test
+    public void testResizes() {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics();
+        filled(metrics, 5);
+        // Doubling from 0: capacities 1, 2, 4, 8, copying 0, 1, 2, 4 elements
+        assertEquals(4, metrics.getResizeCount());
+        assertEquals(7, metrics.getElementsCopiedOnResize());
+        assertEquals(1.0 - 7.0 / 15.0, metrics.getResizeSlackRatio(), 1e-9);
+    }
+
+    @Test
+    public void testResizeSlackIgnoresLaterRemoves() {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics();
+        DynamicArray<Integer> arr = filled(metrics, 8);
+        metrics.reset();
+        arr.add(8);
+        // Grew from 8 to 16 holding 8 elements
+        assertEquals(0.5, metrics.getResizeSlackRatio(), 1e-9);
+        arr.extract(1, 5);
+        assertEquals(0.5, metrics.getResizeSlackRatio(), 1e-9);
+        // trimToSize is a resize with no slack: 8 of 16 plus 5 of 5
+        arr.trimToSize();
+        assertEquals(1.0 - 13.0 / 21.0, metrics.getResizeSlackRatio(), 1e-9);
+    }
+
+    @Test
+    public void testShiftsAndCopies() {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics();
+        DynamicArray<Integer> arr = filled(metrics, 10);
+        metrics.reset();
+
+        arr.add(2, -1);
+        arr.remove(0);
+        arr.extract(8, 10);
+        arr.splitPrefix(3);
+        arr.append(arr);
+        arr.delete(0, 1);
+
+        assertEquals(8, metrics.getShifted(DynamicArrayMetrics.Operation.ADD_AT));
+        assertEquals(10, metrics.getShifted(DynamicArrayMetrics.Operation.REMOVE));
+        assertEquals(0, metrics.getShifted(DynamicArrayMetrics.Operation.EXTRACT));
+        assertEquals(2, metrics.getCopied(DynamicArrayMetrics.Operation.EXTRACT));
+        assertEquals(5, metrics.getShifted(DynamicArrayMetrics.Operation.SPLIT_PREFIX));
+        assertEquals(3, metrics.getCopied(DynamicArrayMetrics.Operation.SPLIT_PREFIX));
+        assertEquals(10, metrics.getCopied(DynamicArrayMetrics.Operation.APPEND));
+        assertEquals(4, metrics.getCopied(DynamicArrayMetrics.Operation.DELETE));
+        assertEquals(1, metrics.getCount(DynamicArrayMetrics.Operation.DELETE));
+        assertEquals(0, metrics.getCount(DynamicArrayMetrics.Operation.INSERT));
+
+        long elements = 8 + 10 + 2 + 5 + 3 + 10 + 4;
+        assertEquals(elements * DynamicArrayMetrics.REFERENCE_BYTES, metrics.getBytesCopied());
+        assertTrue(DynamicArrayMetrics.REFERENCE_BYTES == 4 || DynamicArrayMetrics.REFERENCE_BYTES == 8);
+
+        Map<String, Long> counts = metrics.getOperationCounts();
+        assertEquals(Long.valueOf(1), counts.get("ADD_AT"));
+        assertEquals(DynamicArrayMetrics.Operation.values().length, counts.size());
+    }
+
+    @Test
+    public void testDerivedArraysAndDefault() {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics();
+        DynamicArray<Integer> copy = filled(metrics, 4).delete(0, 2).append(new DynamicArray<>(0));
+        assertSame(metrics, copy.getMetrics());
+
+        DynamicArray.setDefaultMetrics(metrics);
+        assertSame(metrics, new DynamicArray<Integer>(1).getMetrics());
+        DynamicArray.setDefaultMetrics(null);
+        assertNull(new DynamicArray<Integer>(1).getMetrics());
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics();
+        DynamicArray<Integer> arr = filled(null, 100);
+        arr.add(0, 0);
+        arr.remove(0);
+        assertNull(arr.getMetrics());
+        assertEquals(0, metrics.getResizeCount());
+        assertEquals(0.0, metrics.getResizeSlackRatio(), 0.0);
+    }
+
+    @Test
+    public void testJmx() throws Exception {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics();
+        ObjectName name = metrics.register("test-jmx");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            filled(metrics, 3).remove(0);
+            assertEquals(3L, server.getAttribute(name, "ResizeCount"));
+            assertTrue(server.getAttribute(name, "ElementsShifted") instanceof javax.management.openmbean.TabularData);
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "ResizeCount"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    public void testFlightRecorderEvents() throws Exception {
+        Path file = Files.createTempFile("dynamic-array", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("dynamicarray.Resize");
+            recording.start();
+            filled(new DynamicArrayMetrics(), 3);
+            filled(null, 3);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            events.removeIf(e -> !e.getEventType().getName().equals("dynamicarray.Resize"));
+            assertEquals(3, events.size());
+            assertEquals(2, events.get(2).getInt("oldCapacity"));
+            assertEquals(4, events.get(2).getInt("newCapacity"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the stream support and parallel bulk operations of DynamicArray.
+ * Sizes straddle PARALLEL_THRESHOLD so both the sequential and the fork-join paths run.
+ */
+public class DynamicArrayParallelTest {
+    private static final int LARGE = DynamicArray.PARALLEL_THRESHOLD * 8 + 3;
+
+    // Helper: builds an array holding 0 .. n-1
+    public DynamicArray<Integer> range(int n) {
+        DynamicArray<Integer> arr = new DynamicArray<>(n);
+        for (int i = 0; i < n; i++) {
+            arr.add(i);
+        }
+        return arr;
+    }
+
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        Spliterator<Integer> right = range(100).spliterator();
+        Spliterator<Integer> left = right.trySplit();
+        assertEquals(50, left.estimateSize());
+        assertEquals(50, right.estimateSize());
+        assertTrue(right.hasCharacteristics(Spliterator.SUBSIZED));
+
+        Spliterator<Integer> single = range(1).spliterator();
+        assertNull(single.trySplit());
+    }
+
+    @Test
+    public void testParallelStream() {
+        DynamicArray<Integer> arr = range(LARGE);
+        long expected = (long) LARGE * (LARGE - 1) / 2;
+        assertEquals(expected, arr.parallelStream().mapToLong(Integer::longValue).sum());
+        List<Integer> collected = arr.parallelStream().collect(Collectors.toList());
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(Integer.valueOf(i), collected.get(i));
+        }
+    }
+
+    @Test
+    public void testStreamFailsFast() {
+        DynamicArray<Integer> arr = range(10);
+        assertThrows(ConcurrentModificationException.class, () -> arr.stream().forEach(x -> {
+            if (x == 3) arr.add(-1);
+        }));
+    }
+
+    @Test
+    public void testParallelForEach() {
+        for (int n : new int[] {0, 10, LARGE}) {
+            AtomicLong sum = new AtomicLong();
+            range(n).parallelForEach(x -> sum.addAndGet(x));
+            assertEquals((long) n * (n - 1) / 2, sum.get());
+        }
+    }
+
+    @Test
+    public void testParallelMapAndFilter() {
+        for (int n : new int[] {0, 10, LARGE}) {
+            DynamicArray<Integer> arr = range(n);
+            DynamicArray<String> mapped = arr.parallelMap(x -> "v" + x);
+            assertEquals(n, mapped.size());
+            for (int i = 0; i < n; i++) {
+                assertEquals("v" + i, mapped.get(i));
+            }
+
+            DynamicArray<Integer> evens = arr.parallelFilter(x -> x % 2 == 0);
+            assertEquals((n + 1) / 2, evens.size());
+            // The pieces are copied once into a result of exactly the right size
+            assertEquals(evens.size(), evens.capacity());
+            for (int i = 0; i < evens.size(); i++) {
+                assertEquals(Integer.valueOf(2 * i), evens.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelReduce() {
+        assertEquals(Integer.valueOf(0), range(0).parallelReduce(0, Integer::sum));
+        assertEquals(Integer.valueOf(45), range(10).parallelReduce(0, Integer::sum));
+        assertEquals(Integer.valueOf(LARGE - 1), range(LARGE).parallelReduce(Integer.MIN_VALUE, Math::max));
+
+        // Order is preserved for associative but non-commutative operations
+        DynamicArray<String> letters = range(LARGE).parallelMap(x -> x % 1000 == 0 ? "x" : "");
+        assertEquals(String.join("", Collections.nCopies((LARGE + 999) / 1000, "x")),
+                letters.parallelReduce("", String::concat));
+    }
+
+    @Test
+    public void testParallelSortAndPrefix() {
+        Random random = new Random(11);
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < LARGE; i++) {
+            int x = random.nextInt(1000);
+            arr.add(x);
+            expected.add(x);
+        }
+        arr.add(0, 5000);
+        expected.add(0, 5000);
+        arr.parallelSort(null);
+        Collections.sort(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), arr.get(i));
+        }
+
+        arr.parallelSort(Collections.reverseOrder());
+        assertEquals(Integer.valueOf(5000), arr.get(0));
+
+        DynamicArray<Integer> ones = new DynamicArray<>(0);
+        for (int i = 0; i < LARGE; i++) {
+            ones.add(1);
+        }
+        ones.parallelPrefix(Integer::sum);
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(Integer.valueOf(i + 1), ones.get(i));
+        }
+    }
+
+    @Test
+    public void testParallelFailsFast() {
+        DynamicArray<Integer> arr = range(10);
+        assertThrows(ConcurrentModificationException.class, () -> arr.parallelForEach(x -> {
+            if (x == 3) arr.add(-1);
+        }));
+    }
+}
@@ -0,0 +1,145 @@
+import java.util.Arrays;
+
+/**
+ * A pool of backing arrays for DynamicArrays, sorted into power-of-two size classes.
+ * <p>
+ * A DynamicArray with a pool (see DynamicArray.setPool) takes its backing arrays from the
+ * pool when it grows or is derived, and hands the old ones back. Short-lived arrays handed
+ * back with DynamicArray.recycle then let a steady-state pipeline run without allocating.
+ * Capacities of pooled arrays are rounded up to the next power of two. Arrays longer than
+ * the pool's maximum length are allocated and dropped as usual.
+ * <p>
+ * The pool may be shared between threads; each class keeps at most a fixed number of arrays.
+ */
+public class DynamicArrayPool {
+    private static final Object[] EMPTY = {};
+    private static final int DEFAULT_ARRAYS_PER_CLASS = 8;
+    private static final int DEFAULT_MAX_LENGTH = 1 << 20;
+
+    private final int arraysPerClass;
+    private final int maxLength;
+    private final Object[][][] free = new Object[Integer.SIZE][][];
+    private final int[] counts = new int[Integer.SIZE];
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs a pool keeping up to 8 arrays of each size class up to 2^20 elements.
+     */
+    public DynamicArrayPool() {
+        this(DEFAULT_ARRAYS_PER_CLASS, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructs a pool with the given limits.
+     * @param arraysPerClass the most arrays kept for each size class
+     * @param maxLength the longest array pooled; it is rounded down to a power of two
+     * @throws IllegalArgumentException if either limit is not positive
+     */
+    public DynamicArrayPool(int arraysPerClass, int maxLength) {
+        if (arraysPerClass <= 0 || maxLength <= 0) {
+            throw new IllegalArgumentException("Pool limits must be positive.");
+        }
+        this.arraysPerClass = arraysPerClass;
+        this.maxLength = Integer.highestOneBit(maxLength);
+    }
+
+    private static int sizeClass(int minLength) {
+        return minLength <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(minLength - 1);
+    }
+
+    /**
+     * Returns the length of the array acquire(minLength) would return.
+     */
+    int lengthFor(int minLength) {
+        if (minLength == 0 || minLength > maxLength) {
+            return minLength;
+        }
+        return 1 << sizeClass(minLength);
+    }
+
+    /**
+     * Returns an all-null array of length lengthFor(minLength), reusing a pooled one if possible.
+     */
+    Object[] acquire(int minLength) {
+        int length = lengthFor(minLength);
+        if (length == 0) {
+            return EMPTY;
+        }
+        if (length <= maxLength) {
+            int k = sizeClass(length);
+            synchronized (this) {
+                if (counts[k] > 0) {
+                    hits++;
+                    Object[] array = free[k][--counts[k]];
+                    free[k][counts[k]] = null;
+                    return array;
+                }
+                misses++;
+            }
+        }
+        return new Object[length];
+    }
+
+    /**
+     * Takes back an array that its owner no longer uses. Arrays that do not fit a size
+     * class, or whose class is full, are left to the garbage collector.
+     */
+    void release(Object[] array) {
+        int length = array.length;
+        if (length == 0 || length > maxLength || Integer.bitCount(length) != 1) {
+            return;
+        }
+        int k = Integer.numberOfTrailingZeros(length);
+        synchronized (this) {
+            if (counts[k] == arraysPerClass) {
+                return;
+            }
+        }
+        Arrays.fill(array, null);
+        synchronized (this) {
+            if (counts[k] < arraysPerClass) {
+                if (free[k] == null) {
+                    free[k] = new Object[arraysPerClass][];
+                }
+                free[k][counts[k]++] = array;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of arrays currently held by the pool.
+     * @return returns the number of pooled arrays
+     */
+    public synchronized int pooledArrays() {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns how many requests were served from the pool.
+     * @return returns the number of reused arrays
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns how many poolable requests had to allocate a new array.
+     * @return returns the number of allocations
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Drops every pooled array.
+     */
+    public synchronized void clear() {
+        Arrays.fill(free, null);
+        Arrays.fill(counts, 0);
+    }
+}
@@ -0,0 +1,161 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the Into variants of DynamicArray and DynamicArrayPool.
+ */
+public class DynamicArrayPoolTest {
+
+    // Helper: builds array from string
+    public DynamicArray<Character> stringToArray(String s) {
+        DynamicArray<Character> result = new DynamicArray<>(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    @Test
+    public void testIntoVariantsMatchAllocatingVersions() {
+        DynamicArray<Character> arr = stringToArray("abcdef");
+        DynamicArray<Character> other = stringToArray("XY");
+        DynamicArray<Character> dest = stringToArray("0123456789");
+        assertSame(dest, arr.appendInto(other, dest));
+        assertEquals(arr.append(other).toString(), dest.toString());
+        arr.insertInto(2, other, dest);
+        assertEquals(arr.insert(2, other).toString(), dest.toString());
+        arr.deleteInto(1, 4, dest);
+        assertEquals(arr.delete(1, 4).toString(), dest.toString());
+        arr.sublistInto(2, 5, dest);
+        assertEquals("[c, d, e]", dest.toString());
+        assertEquals(3, dest.size());
+    }
+
+    @Test
+    public void testMovingIntoVariants() {
+        DynamicArray<Character> arr = stringToArray("abcdefgh");
+        DynamicArray<Character> dest = new DynamicArray<>(0);
+        arr.extractInto(2, 4, dest);
+        assertEquals("[c, d]", dest.toString());
+        assertEquals("[a, b, e, f, g, h]", arr.toString());
+        arr.splitPrefixInto(2, dest);
+        assertEquals("[a, b]", dest.toString());
+        assertEquals("[e, f, g, h]", arr.toString());
+        arr.splitSuffixInto(1, dest);
+        assertEquals("[f, g, h]", dest.toString());
+        assertEquals("[e]", arr.toString());
+    }
+
+    @Test
+    public void testDestinationKeepsLongEnoughBackingArray() {
+        DynamicArray<Character> arr = stringToArray("abcdef");
+        DynamicArray<Character> dest = new DynamicArray<>(16);
+        arr.sublistInto(0, 6, dest);
+        arr.sublistInto(0, 2, dest);
+        assertEquals(16, dest.capacity());
+        assertEquals("[a, b]", dest.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDestinationCannotBeSource() {
+        DynamicArray<Character> arr = stringToArray("abc");
+        arr.sublistInto(0, 2, arr);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDestinationCannotBeParentOfOther() {
+        DynamicArray<Character> arr = stringToArray("abc");
+        DynamicArray<Character> dest = stringToArray("xyz");
+        arr.appendInto(dest.view(0, 2), dest);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testIntoChecksBounds() {
+        stringToArray("abc").deleteInto(2, 5, new DynamicArray<>(0));
+    }
+
+    @Test
+    public void testPooledCapacityIsRounded() {
+        DynamicArrayPool pool = new DynamicArrayPool();
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        arr.setPool(pool);
+        for (int i = 0; i < 17; i++) {
+            arr.add(i);
+        }
+        assertEquals(32, arr.capacity());
+        DynamicArray<Integer> copy = arr.delete(5, 17);
+        assertSame(pool, copy.getPool());
+        assertEquals(8, copy.capacity());
+    }
+
+    @Test
+    public void testRecycledArraysAreReused() {
+        DynamicArrayPool pool = new DynamicArrayPool();
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        arr.setPool(pool);
+        for (int i = 0; i < 100; i++) {
+            arr.add(i);
+        }
+        long hits = pool.hits();
+        for (int round = 0; round < 3; round++) {
+            DynamicArray<Integer> joined = arr.append(arr);
+            assertEquals(200, joined.size());
+            assertEquals(Integer.valueOf(99), joined.get(199));
+            joined.recycle();
+            assertEquals(0, joined.size());
+        }
+        assertEquals(hits + 2, pool.hits());
+    }
+
+    @Test
+    public void testSteadyStateWithoutMisses() {
+        DynamicArrayPool pool = new DynamicArrayPool();
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        arr.setPool(pool);
+        for (int i = 0; i < 50; i++) {
+            arr.add(i);
+        }
+        DynamicArray<Integer> dest = new DynamicArray<>(0);
+        dest.setPool(pool);
+        arr.sublistInto(0, 50, dest);
+        arr.insert(10, dest).recycle();
+        long misses = pool.misses();
+        for (int round = 0; round < 10; round++) {
+            arr.deleteInto(0, round, dest);
+            DynamicArray<Integer> scratch = arr.insert(round, dest);
+            assertEquals(100 - round, scratch.size());
+            scratch.recycle();
+        }
+        assertEquals(misses, pool.misses());
+    }
+
+    @Test
+    public void testRecycleClearsReleasedArray() {
+        DynamicArrayPool pool = new DynamicArrayPool(1, 64);
+        DynamicArray<String> arr = new DynamicArray<>(2);
+        arr.setPool(pool);
+        arr.add("a");
+        arr.add("b");
+        arr.recycle();
+        assertEquals(0, arr.capacity());
+        assertEquals(1, pool.pooledArrays());
+        arr.ensureCapacity(2);
+        assertEquals(0, pool.pooledArrays());
+        arr.add("c");
+        assertEquals("[c]", arr.toString());
+        assertEquals(1, pool.hits());
+    }
+
+    @Test
+    public void testBatchReturnsOldBackingArray() {
+        DynamicArrayPool pool = new DynamicArrayPool();
+        DynamicArray<Integer> arr = new DynamicArray<>(8);
+        arr.setPool(pool);
+        for (int i = 0; i < 8; i++) {
+            arr.add(i);
+        }
+        arr.batch().insert(0, -1).remove(3).apply();
+        assertEquals(1, pool.pooledArrays());
+        assertEquals("[-1, 0, 1, 2, 4, 5, 6, 7]", arr.toString());
+    }
+}
@@ -0,0 +1,26 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event emitted when a DynamicArray with metrics attached reallocates its
+ * backing array. It is disabled unless a recording enables it, e.g. with
+ * -XX:StartFlightRecording and a settings file naming dynamicarray.Resize.
+ */
+@Name("dynamicarray.Resize")
+@Label("DynamicArray Resize")
+@Category("DynamicArray")
+@Description("A DynamicArray reallocated its backing array")
+class DynamicArrayResizeEvent extends Event {
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Size")
+    @Description("Elements copied into the new backing array")
+    int size;
+}
@@ -0,0 +1,240 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for sorting, searching and comparing DynamicArrays: sort, binary search,
+ * the hash index, equals, hashCode, mismatch, fill and compareRange.
+ */
+public class DynamicArraySearchTest {
+
+    // Helper: builds array from string
+    public DynamicArray<Character> stringToArray(String s) {
+        DynamicArray<Character> result = new DynamicArray<>(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    @Test
+    public void testSortAndBinarySearch() {
+        DynamicArray<Character> arr = stringToArray("dbeac");
+        arr.sort(null);
+        assertEquals("[a, b, c, d, e]", arr.toString());
+        assertEquals(3, arr.binarySearch('d', null));
+        assertEquals(-1, arr.binarySearch('0', null));
+        assertEquals(-6, arr.binarySearch('z', null));
+        arr.sort(Comparator.reverseOrder());
+        assertEquals("[e, d, c, b, a]", arr.toString());
+        assertEquals(4, arr.binarySearch('a', Comparator.reverseOrder()));
+    }
+
+    @Test
+    public void testSortInvalidatesIterators() {
+        DynamicArray<Character> arr = stringToArray("dcba");
+        Iterator<Character> it = arr.iterator();
+        Spliterator<Character> split = arr.spliterator();
+        it.next();
+        split.tryAdvance(c -> { });
+        arr.sort(null);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        assertThrows(ConcurrentModificationException.class, () -> split.forEachRemaining(c -> { }));
+
+        Iterator<Character> again = arr.iterator();
+        arr.parallelSort(Comparator.reverseOrder());
+        assertThrows(ConcurrentModificationException.class, again::next);
+        assertEquals("[d, c, b, a]", arr.toString());
+    }
+
+    @Test
+    public void testIndexOfNull() {
+        DynamicArray<Character> arr = stringToArray("ab");
+        arr.add(null);
+        assertEquals(2, arr.indexOf(null));
+        arr.enableHashIndex();
+        assertEquals(2, arr.indexOf(null));
+        assertTrue(arr.hasHashIndex());
+        arr.disableHashIndex();
+        assertFalse(arr.hasHashIndex());
+    }
+
+    @Test
+    public void testHashIndexFollowsEdits() {
+        DynamicArray<Character> arr = stringToArray("abcdef");
+        arr.enableHashIndex();
+        assertEquals(3, arr.indexOf('d'));
+        arr.add('x');
+        assertEquals(6, arr.indexOf('x'));
+        arr.set(0, 'x');
+        assertEquals(0, arr.indexOf('x'));
+        assertEquals(-1, arr.indexOf('a'));
+        arr.remove(0);
+        assertEquals(5, arr.indexOf('x'));
+        arr.add(0, 'f');
+        assertEquals(0, arr.indexOf('f'));
+        assertEquals(2, arr.indexOf('c'));
+        arr.extract(0, 2);
+        assertEquals(0, arr.indexOf('c'));
+        assertFalse(arr.contains('b'));
+        arr.sort(Comparator.reverseOrder());
+        assertEquals(0, arr.indexOf('x'));
+        arr.batch().insert(0, 'q').apply();
+        assertEquals(0, arr.indexOf('q'));
+        arr.recycle();
+        assertFalse(arr.contains('x'));
+        arr.add('x');
+        assertEquals(0, arr.indexOf('x'));
+    }
+
+    // A key that counts how often it is hashed
+    static final class CountedKey {
+        static int hashes;
+        final int id;
+
+        CountedKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            hashes++;
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CountedKey && ((CountedKey) other).id == id;
+        }
+    }
+
+    @Test
+    public void testInterleavedFrontInsertsAndLookups() {
+        int n = 5000;
+        DynamicArray<CountedKey> arr = new DynamicArray<>(n);
+        for (int i = 0; i < n; i++) {
+            arr.add(new CountedKey(i));
+        }
+        arr.enableHashIndex();
+        CountedKey.hashes = 0;
+        // Each front insert makes every position stale; lookups must not rehash the array each time
+        for (int round = 0; round < 200; round++) {
+            arr.add(0, new CountedKey(-round - 1));
+            assertEquals(round + 1 + n - 1, arr.indexOf(new CountedKey(n - 1)));
+            assertEquals(0, arr.indexOf(new CountedKey(-round - 1)));
+        }
+        assertTrue("Rehashed " + CountedKey.hashes + " times", CountedKey.hashes < 10 * n);
+
+        // Repeated lookups with no edits in between rebuild the index
+        for (int i = 0; i < 3; i++) {
+            arr.indexOf(new CountedKey(n / 2));
+        }
+        CountedKey.hashes = 0;
+        assertEquals(200 + n / 2, arr.indexOf(new CountedKey(n / 2)));
+        assertEquals(1, CountedKey.hashes);
+    }
+
+    @Test
+    public void testHashIndexMatchesLinearScan() {
+        Random random = new Random(18);
+        DynamicArray<Integer> indexed = new DynamicArray<>(4);
+        indexed.enableHashIndex();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int value = random.nextInt(30);
+            int op = random.nextInt(6);
+            if (op == 0 || expected.isEmpty()) {
+                indexed.add(value);
+                expected.add(value);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                indexed.add(index, value);
+                expected.add(index, value);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), indexed.remove(index));
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, value), indexed.set(index, value));
+            } else if (op == 4) {
+                indexed.remove(expected.size() - 1);
+                expected.remove(expected.size() - 1);
+            } else {
+                assertEquals(expected.indexOf(value), indexed.indexOf(value));
+            }
+        }
+        for (int value = 0; value < 30; value++) {
+            assertEquals(expected.indexOf(value), indexed.indexOf(value));
+        }
+    }
+
+    @Test
+    public void testAsListUsesIndexOf() {
+        DynamicArray<Character> arr = stringToArray("abc");
+        arr.enableHashIndex();
+        assertEquals(1, arr.asList().indexOf('b'));
+        assertTrue(arr.asList().contains('c'));
+    }
+
+    // ~*~ Equality ~*~
+    @Test
+    public void testEquals() {
+        DynamicArray<Character> a = stringToArray("abc");
+        DynamicArray<Character> b = stringToArray("abc");
+        b.ensureCapacity(100);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(Arrays.asList('a', 'b', 'c').hashCode(), a.hashCode());
+        assertNotEquals(a, stringToArray("abd"));
+        assertNotEquals(a, stringToArray("ab"));
+        assertNotEquals(a, "abc");
+        a.add(null);
+        b.add(null);
+        assertEquals(a, b);
+    }
+
+    @Test
+    public void testMismatch() {
+        DynamicArray<Character> a = stringToArray("abcdef");
+        assertEquals(-1, a.mismatch(stringToArray("abcdef")));
+        assertEquals(3, a.mismatch(stringToArray("abcxef")));
+        assertEquals(2, a.mismatch(stringToArray("ab")));
+        assertEquals(3, a.mismatch(new RopeDynamicArray<Character>(0).append(stringToArray("abcXYZ"))));
+        // mismatch compares elements of any DynamicArrayADT; equals only equates DynamicArrays
+        assertEquals(-1, a.mismatch(a.view(0, 6)));
+        assertNotEquals(a, a.view(0, 6));
+    }
+
+    @Test
+    public void testFill() {
+        DynamicArray<Character> a = stringToArray("abcdef");
+        a.enableHashIndex();
+        a.fill(1, 4, 'z');
+        assertEquals("[a, z, z, z, e, f]", a.toString());
+        assertEquals(1, a.indexOf('z'));
+        assertFalse(a.contains('c'));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testFillChecksRange() {
+        stringToArray("abc").fill(2, 1, 'x');
+    }
+
+    @Test
+    public void testCompareRange() {
+        DynamicArray<Character> a = stringToArray("abcdef");
+        DynamicArray<Character> b = stringToArray("xxcdey");
+        assertEquals(0, a.compareRange(2, 5, b, 2, 5, null));
+        assertTrue(a.compareRange(0, 6, b, 0, 6, null) < 0);
+        assertTrue(a.compareRange(0, 6, b, 0, 6, Comparator.reverseOrder()) > 0);
+        assertTrue(a.compareRange(2, 4, b, 2, 5, null) < 0);
+    }
+}
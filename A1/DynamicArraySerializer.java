@@ -0,0 +1,393 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Writes dynamic arrays to channels in a compact binary format and reads them back.
+ * <p>
+ * The format is a header (magic number, format version, element width in bytes and element
+ * count) followed by chunks, each an element count and then that many fixed-width elements,
+ * and finally a chunk of count 0. Everything is little-endian. Elements are encoded by an
+ * ElementCodec, so the arrays written with ElementCodec.ints() can be read back as an
+ * IntDynamicArray and vice versa.
+ * <p>
+ * Data goes through one direct ByteBuffer holding a single chunk, so neither side ever holds
+ * a byte copy of the whole array; readEach hands elements over as each chunk is decoded. The
+ * writeInts/readInts style methods move each chunk of a primitive array with one bulk buffer
+ * transfer instead of encoding element by element.
+ * <p>
+ * A serializer reuses its buffer, so it must not be used by two threads at once. The static
+ * primitive methods reuse one buffer per thread.
+ * @param <J> the type of elements serialized
+ */
+public class DynamicArraySerializer<J> {
+    private static final int MAGIC = 0x44594153;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+
+    /**
+     * Largest payload of one chunk, in bytes.
+     */
+    static final int CHUNK_BYTES = 1 << 16;
+
+    private static final ThreadLocal<ByteBuffer> PRIMITIVE_BUFFER = ThreadLocal.withInitial(DynamicArraySerializer::newBuffer);
+
+    private final ElementCodec<J> codec;
+    private final int width;
+    private ByteBuffer buffer;
+
+    /**
+     * Constructs a serializer for elements encoded by codec.
+     * @param codec converts elements to and from bytes
+     */
+    public DynamicArraySerializer(ElementCodec<J> codec) {
+        if (codec.width() < 1 || codec.width() > CHUNK_BYTES) {
+            throw new IllegalArgumentException("Codec width must be between 1 and " + CHUNK_BYTES + ".");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+    }
+
+    private ByteBuffer buffer() {
+        if (buffer == null) {
+            buffer = newBuffer();
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer newBuffer() {
+        return ByteBuffer.allocateDirect(Integer.BYTES + CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // ~*~ Generic arrays ~*~
+
+    /**
+     * Writes every element of array to channel.
+     * The count and the elements come from one spliterator, so arrays whose spliterator covers
+     * a snapshot, such as ConcurrentDynamicArray and CopyOnWriteDynamicArray, are written
+     * consistently while other threads change them.
+     * @param array the array to write
+     * @param channel where to write it
+     * @throws IOException if the channel fails
+     * @throws ConcurrentModificationException if array is not thread-safe and changes size meanwhile
+     */
+    public void write(DynamicArrayADT<J> array, WritableByteChannel channel) throws IOException {
+        Spliterator<J> elements = array.spliterator();
+        long size = elements.getExactSizeIfKnown();
+        if (size < 0) {
+            DynamicArray<J> copy = new DynamicArray<>(0);
+            elements.forEachRemaining(copy::add);
+            write(copy, channel);
+            return;
+        }
+        ByteBuffer buf = buffer();
+        writeHeader(buf, channel, width, (int) size);
+        writeChunks(buf, channel, width, (int) size, new Encoder(elements));
+    }
+
+    /**
+     * Encodes the elements of a spliterator into chunks, reusing itself as the element action.
+     */
+    private final class Encoder implements ChunkWriter, Consumer<J> {
+        private final Spliterator<J> elements;
+        private ByteBuffer payload;
+        private int offset;
+
+        Encoder(Spliterator<J> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public void fill(ByteBuffer payload, int from, int count) {
+            this.payload = payload;
+            offset = payload.position();
+            for (int i = 0; i < count; i++) {
+                if (!elements.tryAdvance(this)) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+            payload.position(offset);
+        }
+
+        @Override
+        public void accept(J value) {
+            codec.encode(payload, offset, value);
+            offset += width;
+        }
+    }
+
+    /**
+     * Reads an array written by write.
+     * @param channel where to read it from
+     * @return returns a new DynamicArray holding the elements
+     * @throws IOException if the channel fails, ends early or does not hold an array in this format
+     */
+    public DynamicArray<J> read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buf = buffer();
+        int size = readHeader(buf, channel, width);
+        DynamicArray<J> result = new DynamicArray<>(initialCapacity(size, width));
+        readChunks(buf, channel, width, size, decoder(result::add));
+        return result;
+    }
+
+    /**
+     * Reads an array written by write and passes each element to action as soon as it is decoded,
+     * without building the array.
+     * @param channel where to read it from
+     * @param action receives the elements in order
+     * @return returns the number of elements read
+     * @throws IOException if the channel fails, ends early or does not hold an array in this format
+     */
+    public int readEach(ReadableByteChannel channel, Consumer<? super J> action) throws IOException {
+        ByteBuffer buf = buffer();
+        int size = readHeader(buf, channel, width);
+        readChunks(buf, channel, width, size, decoder(action));
+        return size;
+    }
+
+    private ChunkReader decoder(Consumer<? super J> action) {
+        return (payload, count) -> {
+            for (int i = 0; i < count; i++) {
+                action.accept(codec.decode(payload, i * width));
+            }
+        };
+    }
+
+    // ~*~ Primitive arrays ~*~
+
+    /**
+     * Writes array to channel; the same bytes as write with ElementCodec.ints().
+     * @param array the array to write
+     * @param channel where to write it
+     * @throws IOException if the channel fails
+     */
+    public static void writeInts(IntDynamicArray array, WritableByteChannel channel) throws IOException {
+        writePrimitive(channel, Integer.BYTES, array.size(),
+                (payload, from, count) -> array.writeTo(advance(payload, count * Integer.BYTES).asIntBuffer(), from, count));
+    }
+
+    /**
+     * Reads an array written by writeInts or by write with ElementCodec.ints().
+     * @param channel where to read it from
+     * @return returns a new IntDynamicArray holding the elements
+     * @throws IOException if the channel fails, ends early or does not hold an int array
+     */
+    public static IntDynamicArray readInts(ReadableByteChannel channel) throws IOException {
+        IntDynamicArray result = new IntDynamicArray(0);
+        readPrimitive(channel, Integer.BYTES, result::ensureCapacity,
+                (payload, count) -> result.readFrom(payload.asIntBuffer(), count));
+        return result;
+    }
+
+    /**
+     * Writes array to channel; the same bytes as write with ElementCodec.longs().
+     * @param array the array to write
+     * @param channel where to write it
+     * @throws IOException if the channel fails
+     */
+    public static void writeLongs(LongDynamicArray array, WritableByteChannel channel) throws IOException {
+        writePrimitive(channel, Long.BYTES, array.size(),
+                (payload, from, count) -> array.writeTo(advance(payload, count * Long.BYTES).asLongBuffer(), from, count));
+    }
+
+    /**
+     * Reads an array written by writeLongs or by write with ElementCodec.longs().
+     * @param channel where to read it from
+     * @return returns a new LongDynamicArray holding the elements
+     * @throws IOException if the channel fails, ends early or does not hold a long array
+     */
+    public static LongDynamicArray readLongs(ReadableByteChannel channel) throws IOException {
+        LongDynamicArray result = new LongDynamicArray(0);
+        readPrimitive(channel, Long.BYTES, result::ensureCapacity,
+                (payload, count) -> result.readFrom(payload.asLongBuffer(), count));
+        return result;
+    }
+
+    /**
+     * Writes array to channel; the same bytes as write with ElementCodec.doubles().
+     * @param array the array to write
+     * @param channel where to write it
+     * @throws IOException if the channel fails
+     */
+    public static void writeDoubles(DoubleDynamicArray array, WritableByteChannel channel) throws IOException {
+        writePrimitive(channel, Double.BYTES, array.size(),
+                (payload, from, count) -> array.writeTo(advance(payload, count * Double.BYTES).asDoubleBuffer(), from, count));
+    }
+
+    /**
+     * Reads an array written by writeDoubles or by write with ElementCodec.doubles().
+     * @param channel where to read it from
+     * @return returns a new DoubleDynamicArray holding the elements
+     * @throws IOException if the channel fails, ends early or does not hold a double array
+     */
+    public static DoubleDynamicArray readDoubles(ReadableByteChannel channel) throws IOException {
+        DoubleDynamicArray result = new DoubleDynamicArray(0);
+        readPrimitive(channel, Double.BYTES, result::ensureCapacity,
+                (payload, count) -> result.readFrom(payload.asDoubleBuffer(), count));
+        return result;
+    }
+
+    /**
+     * Writes array to channel; the same bytes as write with ElementCodec.chars().
+     * @param array the array to write
+     * @param channel where to write it
+     * @throws IOException if the channel fails
+     */
+    public static void writeChars(CharDynamicArray array, WritableByteChannel channel) throws IOException {
+        writePrimitive(channel, Character.BYTES, array.size(),
+                (payload, from, count) -> array.writeTo(advance(payload, count * Character.BYTES).asCharBuffer(), from, count));
+    }
+
+    /**
+     * Reads an array written by writeChars or by write with ElementCodec.chars().
+     * @param channel where to read it from
+     * @return returns a new CharDynamicArray holding the elements
+     * @throws IOException if the channel fails, ends early or does not hold a char array
+     */
+    public static CharDynamicArray readChars(ReadableByteChannel channel) throws IOException {
+        CharDynamicArray result = new CharDynamicArray(0);
+        readPrimitive(channel, Character.BYTES, result::ensureCapacity,
+                (payload, count) -> result.readFrom(payload.asCharBuffer(), count));
+        return result;
+    }
+
+    /**
+     * Returns a view of payload from its position, then moves its position past bytes
+     * that the caller is about to fill through the view.
+     */
+    private static ByteBuffer advance(ByteBuffer payload, int bytes) {
+        ByteBuffer view = payload.slice().order(payload.order());
+        payload.position(payload.position() + bytes);
+        return view;
+    }
+
+    private static void writePrimitive(WritableByteChannel channel, int width, int size, ChunkWriter writer)
+            throws IOException {
+        ByteBuffer buf = PRIMITIVE_BUFFER.get();
+        writeHeader(buf, channel, width, size);
+        writeChunks(buf, channel, width, size, writer);
+    }
+
+    private static void readPrimitive(ReadableByteChannel channel, int width, IntConsumer presize,
+            ChunkReader reader) throws IOException {
+        ByteBuffer buf = PRIMITIVE_BUFFER.get();
+        int size = readHeader(buf, channel, width);
+        presize.accept(initialCapacity(size, width));
+        readChunks(buf, channel, width, size, reader);
+    }
+
+    // ~*~ Format ~*~
+
+    /**
+     * Fills the payload of one chunk with count elements starting at from,
+     * leaving the buffer's position just past them.
+     */
+    private interface ChunkWriter {
+        void fill(ByteBuffer payload, int from, int count);
+    }
+
+    /**
+     * Consumes the count elements of one chunk, stored from offset 0 of payload.
+     */
+    private interface ChunkReader {
+        void drain(ByteBuffer payload, int count) throws IOException;
+    }
+
+    /**
+     * Returns how many elements to reserve before reading an array of size elements.
+     * The header is not trusted beyond one chunk, so a forged or truncated stream fails
+     * with an IOException instead of allocating for elements that never arrive; the
+     * array grows as chunks are read.
+     */
+    private static int initialCapacity(int size, int width) {
+        return Math.min(size, CHUNK_BYTES / width);
+    }
+
+    private static void writeHeader(ByteBuffer buf, WritableByteChannel channel, int width, int size)
+            throws IOException {
+        buf.clear();
+        buf.putInt(MAGIC).putInt(VERSION).putInt(width).putLong(size);
+        buf.flip();
+        writeFully(buf, channel);
+    }
+
+    private static void writeChunks(ByteBuffer buf, WritableByteChannel channel, int width, int size,
+            ChunkWriter writer) throws IOException {
+        int perChunk = CHUNK_BYTES / width;
+        for (int from = 0; from < size; from += perChunk) {
+            int count = Math.min(perChunk, size - from);
+            buf.clear();
+            buf.putInt(count);
+            writer.fill(buf, from, count);
+            buf.flip();
+            writeFully(buf, channel);
+        }
+        buf.clear();
+        buf.putInt(0);
+        buf.flip();
+        writeFully(buf, channel);
+    }
+
+    private static int readHeader(ByteBuffer buf, ReadableByteChannel channel, int width) throws IOException {
+        buf.clear().limit(HEADER_BYTES);
+        readFully(buf, channel);
+        if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+            throw new StreamCorruptedException("Not a serialized dynamic array.");
+        }
+        if (buf.getInt(8) != width) {
+            throw new StreamCorruptedException("Element width does not match the codec.");
+        }
+        long size = buf.getLong(12);
+        if (size < 0 || size > GrowthPolicy.MAX_CAPACITY) {
+            throw new StreamCorruptedException("Invalid element count: " + size);
+        }
+        return (int) size;
+    }
+
+    private static void readChunks(ByteBuffer buf, ReadableByteChannel channel, int width, int size,
+            ChunkReader reader) throws IOException {
+        int perChunk = CHUNK_BYTES / width;
+        int seen = 0;
+        while (true) {
+            buf.clear().limit(Integer.BYTES);
+            readFully(buf, channel);
+            int count = buf.getInt(0);
+            if (count == 0) {
+                break;
+            }
+            if (count < 0 || count > perChunk || count > size - seen) {
+                throw new StreamCorruptedException("Invalid chunk length: " + count);
+            }
+            buf.clear().limit(count * width);
+            readFully(buf, channel);
+            buf.flip();
+            reader.drain(buf, count);
+            seen += count;
+        }
+        if (seen != size) {
+            throw new StreamCorruptedException("Expected " + size + " elements but read " + seen + ".");
+        }
+    }
+
+    private static void writeFully(ByteBuffer buf, WritableByteChannel channel) throws IOException {
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+    }
+
+    private static void readFully(ByteBuffer buf, ReadableByteChannel channel) throws IOException {
+        while (buf.hasRemaining()) {
+            if (channel.read(buf) < 0) {
+                throw new EOFException("The stream ended before the array did.");
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for DynamicArraySerializer.
+ */
+public class DynamicArraySerializerTest {
+    // More than one chunk of ints, ending part-way through a chunk
+    private static final int MANY = DynamicArraySerializer.CHUNK_BYTES / Integer.BYTES * 2 + 5;
+
+    private interface Writer {
+        void write(ByteArrayOutputStream out) throws IOException;
+    }
+
+    private static byte[] bytes(Writer writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(out);
+        return out.toByteArray();
+    }
+
+    private static ReadableByteChannel in(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        DynamicArraySerializer<Character> serializer = new DynamicArraySerializer<>(ElementCodec.chars());
+        for (String s : new String[] {"", "a", "hello world"}) {
+            DynamicArray<Character> arr = new DynamicArray<>(0);
+            for (char c : s.toCharArray()) {
+                arr.add(c);
+            }
+            byte[] data = bytes(out -> serializer.write(arr, Channels.newChannel(out)));
+            assertEquals(arr.toString(), serializer.read(in(data)).toString());
+        }
+
+        // Any DynamicArrayADT can be written
+        RopeDynamicArray<Character> rope = new RopeDynamicArray<>(0);
+        rope.add('r');
+        byte[] data = bytes(out -> serializer.write(rope, Channels.newChannel(out)));
+        assertEquals("[r]", serializer.read(in(data)).toString());
+    }
+
+    @Test
+    public void testStreamingAcrossChunks() throws IOException {
+        DynamicArraySerializer<Integer> serializer = new DynamicArraySerializer<>(ElementCodec.ints());
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        for (int i = 0; i < MANY; i++) {
+            arr.add(i * 7);
+        }
+        byte[] data = bytes(out -> serializer.write(arr, Channels.newChannel(out)));
+        // Header, three chunk lengths, the elements, and the end marker
+        assertEquals(20 + 4 * 3 + MANY * 4 + 4, data.length);
+
+        long[] sum = {0};
+        int[] next = {0};
+        int count = serializer.readEach(in(data), x -> {
+            assertEquals(next[0]++ * 7, x.intValue());
+            sum[0] += x;
+        });
+        assertEquals(MANY, count);
+        assertEquals(arr.toString(), serializer.read(in(data)).toString());
+    }
+
+    @Test
+    public void testPrimitiveFastPaths() throws IOException {
+        IntDynamicArray ints = new IntDynamicArray(0);
+        for (int i = 0; i < MANY; i++) {
+            ints.add(i - 3);
+        }
+        byte[] intBytes = bytes(out -> DynamicArraySerializer.writeInts(ints, Channels.newChannel(out)));
+        assertArrayEquals(ints.toArray(), DynamicArraySerializer.readInts(in(intBytes)).toArray());
+
+        // The bulk path and the codec path produce the same bytes
+        DynamicArraySerializer<Integer> boxed = new DynamicArraySerializer<>(ElementCodec.ints());
+        DynamicArray<Integer> arr = boxed.read(in(intBytes));
+        assertEquals(Integer.valueOf(-3), arr.get(0));
+        assertArrayEquals(intBytes, bytes(out -> boxed.write(arr, Channels.newChannel(out))));
+
+        LongDynamicArray longs = new LongDynamicArray(0);
+        longs.add(Long.MIN_VALUE);
+        longs.add(42L);
+        byte[] longBytes = bytes(out -> DynamicArraySerializer.writeLongs(longs, Channels.newChannel(out)));
+        assertArrayEquals(longs.toArray(), DynamicArraySerializer.readLongs(in(longBytes)).toArray());
+
+        DoubleDynamicArray doubles = new DoubleDynamicArray(0);
+        doubles.add(1.5);
+        doubles.add(Double.NaN);
+        byte[] doubleBytes = bytes(out -> DynamicArraySerializer.writeDoubles(doubles, Channels.newChannel(out)));
+        assertArrayEquals(doubles.toArray(), DynamicArraySerializer.readDoubles(in(doubleBytes)).toArray(), 0.0);
+
+        CharDynamicArray chars = new CharDynamicArray(0);
+        chars.add('x');
+        chars.add('€');
+        byte[] charBytes = bytes(out -> DynamicArraySerializer.writeChars(chars, Channels.newChannel(out)));
+        assertArrayEquals(chars.toArray(), DynamicArraySerializer.readChars(in(charBytes)).toArray());
+    }
+
+    @Test
+    public void testRejectsBadInput() throws IOException {
+        DynamicArraySerializer<Integer> serializer = new DynamicArraySerializer<>(ElementCodec.ints());
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        arr.add(1);
+        arr.add(2);
+        byte[] data = bytes(out -> serializer.write(arr, Channels.newChannel(out)));
+
+        assertThrows(EOFException.class, () -> serializer.read(in(Arrays.copyOf(data, data.length - 1))));
+        assertThrows(StreamCorruptedException.class, () -> DynamicArraySerializer.readLongs(in(data)));
+
+        byte[] badMagic = data.clone();
+        badMagic[0] ^= 1;
+        assertThrows(StreamCorruptedException.class, () -> serializer.read(in(badMagic)));
+
+        // Header says two elements, but the stream ends after one
+        byte[] truncated = Arrays.copyOf(data, data.length);
+        truncated[20] = 1;
+        truncated[28] = 0;
+        assertThrows(StreamCorruptedException.class, () -> serializer.read(in(truncated)));
+    }
+
+    @Test
+    public void testForgedCountWithoutPayload() throws IOException {
+        // A valid header claiming nearly MAX_VALUE elements, and nothing after it
+        byte[] header = Arrays.copyOf(bytes(out -> DynamicArraySerializer.writeInts(new IntDynamicArray(0),
+                Channels.newChannel(out))), 20);
+        ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN).putLong(12, GrowthPolicy.MAX_CAPACITY);
+        DynamicArraySerializer<Integer> serializer = new DynamicArraySerializer<>(ElementCodec.ints());
+
+        assertThrows(EOFException.class, () -> DynamicArraySerializer.readInts(in(header)));
+        assertThrows(EOFException.class, () -> serializer.read(in(header)));
+        assertThrows(EOFException.class, () -> serializer.readEach(in(header), x -> { }));
+
+        // The same header followed by one short chunk and the end marker
+        byte[] shortStream = Arrays.copyOf(header, 20 + 4 + 4 + 4);
+        shortStream[20] = 1;
+        assertThrows(StreamCorruptedException.class, () -> DynamicArraySerializer.readInts(in(shortStream)));
+        assertThrows(StreamCorruptedException.class, () -> serializer.read(in(shortStream)));
+    }
+
+    // Helper: runs edit on another thread and waits for it, as if it raced with the caller
+    private static void onAnotherThread(Runnable edit) {
+        Thread thread = new Thread(edit);
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void testWriteWhileAnotherThreadRemoves() throws IOException {
+        // Each array loses an element on another thread right after reporting its size
+        ConcurrentDynamicArray<Integer> concurrent = new ConcurrentDynamicArray<Integer>(0) {
+            @Override
+            public int size() {
+                int size = super.size();
+                onAnotherThread(() -> remove(0));
+                return size;
+            }
+        };
+        CopyOnWriteDynamicArray<Integer> copyOnWrite = new CopyOnWriteDynamicArray<Integer>(0) {
+            @Override
+            public int size() {
+                int size = super.size();
+                onAnotherThread(() -> remove(0));
+                return size;
+            }
+        };
+        DynamicArraySerializer<Integer> serializer = new DynamicArraySerializer<>(ElementCodec.ints());
+        for (DynamicArrayADT<Integer> arr : List.of(concurrent, copyOnWrite)) {
+            for (int i = 0; i < MANY; i++) {
+                arr.add(i);
+            }
+            byte[] data = bytes(out -> serializer.write(arr, Channels.newChannel(out)));
+            DynamicArray<Integer> copy = serializer.read(in(data));
+            assertTrue(copy.size() >= MANY - 1);
+            for (int i = 1; i < copy.size(); i++) {
+                assertEquals(copy.get(i - 1) + 1, copy.get(i).intValue());
+            }
+        }
+    }
+}
@@ -1,15 +1,26 @@
 import org.junit.Test;
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Unit tests for the DynamicArray class.
  * Each test uses fresh instances to avoid shared state issues.
  */
 public class DynamicArrayTest {
 
+    // Factory: other DynamicArrayADT implementations override this to run the same tests
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        return new DynamicArray<>(initialCapacity);
+    }
+
     // Helper: builds array from string
-    public DynamicArray<Character> stringToArray(String s) {
-        DynamicArray<Character> result = new DynamicArray<>(s.length());
+    public DynamicArrayADT<Character> stringToArray(String s) {
+        DynamicArrayADT<Character> result = newArray(s.length());
         for (int i = 0; i < s.length(); i++) {
             result.add(s.charAt(i));
         }
@@ -32,7 +43,7 @@ public class DynamicArrayTest {
     // ~*~ Constructor ~*~
     @Test
     public void testConstructor() {
-        DynamicArray<Character> arr = new DynamicArray<>(5);
+        DynamicArrayADT<Character> arr = newArray(5);
         assertEquals(0, arr.size());
     }
 
@@ -70,19 +81,19 @@ public class DynamicArrayTest {
     // ~*~ Remove ~*~
     @Test
     public void testRemove() {
-        DynamicArray<Character> arr1 = stringToArray("abcd");
+        DynamicArrayADT<Character> arr1 = stringToArray("abcd");
         assertEquals(Character.valueOf('c'), arr1.remove(2));
         compareToString(arr1, "abd");
 
-        DynamicArray<Character> arr2 = stringToArray("abcd");
+        DynamicArrayADT<Character> arr2 = stringToArray("abcd");
         assertEquals(Character.valueOf('a'), arr2.remove(0));
         compareToString(arr2, "bcd");
 
-        DynamicArray<Character> arr3 = stringToArray("abcd");
+        DynamicArrayADT<Character> arr3 = stringToArray("abcd");
         assertEquals(Character.valueOf('d'), arr3.remove(3));
         compareToString(arr3, "abc");
 
-        DynamicArray<Character> arr4 = stringToArray("x");
+        DynamicArrayADT<Character> arr4 = stringToArray("x");
         assertEquals(Character.valueOf('x'), arr4.remove(0));
         compareToString(arr4, "");
 
@@ -130,19 +141,89 @@ public class DynamicArrayTest {
     // ~*~ SplitPrefix ~*~
     @Test
     public void testSplitPrefix() {
-        DynamicArray<Character> arr1 = stringToArray("abcdef");
+        DynamicArrayADT<Character> arr1 = stringToArray("abcdef");
         DynamicArrayADT<Character> prefix1 = arr1.splitPrefix(3);
         compareToString(prefix1, "abc");
 
-        DynamicArray<Character> arr2 = stringToArray("abcdef");
+        DynamicArrayADT<Character> arr2 = stringToArray("abcdef");
         DynamicArrayADT<Character> prefix2 = arr2.splitPrefix(0);
         compareToString(prefix2, "");
 
-        DynamicArray<Character> arr3 = stringToArray("abcdef");
+        DynamicArrayADT<Character> arr3 = stringToArray("abcdef");
         DynamicArrayADT<Character> prefix3 = arr3.splitPrefix(6);
         compareToString(prefix3, "abcdef");
 
         assertThrows(IndexOutOfBoundsException.class, () -> stringToArray("abcdef").splitPrefix(-1));
         assertThrows(IndexOutOfBoundsException.class, () -> stringToArray("abcdef").splitPrefix(7));
     }
+
+    // ~*~ Iterator ~*~
+    @Test
+    public void testIterator() {
+        StringBuilder sb = new StringBuilder();
+        for (Character c : stringToArray("abcdef")) {
+            sb.append(c);
+        }
+        assertEquals("abcdef", sb.toString());
+
+        StringBuilder sb2 = new StringBuilder();
+        stringToArray("xyz").forEach(sb2::append);
+        assertEquals("xyz", sb2.toString());
+        assertFalse(stringToArray("").iterator().hasNext());
+    }
+
+    // ~*~ AsList ~*~
+    @Test
+    public void testAsList() {
+        DynamicArrayADT<Character> arr = stringToArray("abcdef");
+        List<Character> list = arr.asList();
+        assertEquals(Arrays.asList('a', 'b', 'c', 'd', 'e', 'f'), list);
+        assertEquals(new ArrayList<>(list), list);
+        assertEquals(3, list.indexOf('d'));
+
+        Collections.reverse(list);
+        compareToString(arr, "fedcba");
+
+        list.add(0, '<');
+        list.remove(list.size() - 1);
+        compareToString(arr, "<fedcb");
+        arr.add('!');
+        assertEquals(7, list.size());
+        assertEquals(Character.valueOf('!'), list.get(6));
+    }
+
+    // ~*~ Stream ~*~
+    @Test
+    public void testStream() {
+        DynamicArrayADT<Character> arr = stringToArray("abcdef");
+        assertEquals("abcdef", arr.stream().map(String::valueOf).collect(Collectors.joining()));
+        assertEquals("abcdef", arr.parallelStream().map(String::valueOf).collect(Collectors.joining()));
+        assertEquals(3, arr.stream().filter(c -> c > 'c').count());
+        assertEquals(0, stringToArray("").stream().count());
+        assertEquals(6, arr.spliterator().getExactSizeIfKnown());
+    }
+
+    // ~*~ Search ~*~
+    @Test
+    public void testIndexOfAndContains() {
+        DynamicArrayADT<Character> arr = stringToArray("abcabc");
+        assertEquals(0, arr.indexOf('a'));
+        assertEquals(2, arr.indexOf('c'));
+        assertEquals(-1, arr.indexOf('z'));
+        assertTrue(arr.contains('b'));
+        assertFalse(arr.contains('z'));
+        assertFalse(arr.contains(null));
+        arr.remove(0);
+        assertEquals(2, arr.indexOf('a'));
+        assertFalse(stringToArray("").contains('a'));
+    }
+
+    // ~*~ Equality ~*~
+    @Test
+    public void testMismatchWithDynamicArray() {
+        // DynamicArray.mismatch accepts any implementation
+        DynamicArray<Character> a = DynamicArray.concat(stringToArray("abcdef"));
+        assertEquals(-1, a.mismatch(stringToArray("abcdef")));
+        assertEquals(3, a.mismatch(stringToArray("abcxef")));
+    }
 }
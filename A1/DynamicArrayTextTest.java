@@ -0,0 +1,115 @@
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the streaming and preview text rendering of DynamicArray.
+ */
+public class DynamicArrayTextTest {
+
+    // Helper: builds an array holding 0 .. n-1
+    public DynamicArray<Integer> range(int n) {
+        DynamicArray<Integer> arr = new DynamicArray<>(n);
+        for (int i = 0; i < n; i++) {
+            arr.add(i);
+        }
+        return arr;
+    }
+
+    @Test
+    public void testWriteToMatchesToString() throws IOException {
+        for (int n : new int[] {0, 1, 2, 1000}) {
+            DynamicArray<Integer> arr = range(n);
+            StringBuilder sb = new StringBuilder();
+            arr.writeTo(sb);
+            assertEquals(arr.toString(), sb.toString());
+
+            StringWriter writer = new StringWriter();
+            arr.writeTo(writer);
+            assertEquals(arr.toString(), writer.toString());
+        }
+        DynamicArray<String> withNull = new DynamicArray<>(2);
+        withNull.add(null);
+        withNull.add("x");
+        assertEquals("[null, x]", withNull.toString());
+    }
+
+    @Test
+    public void testWriterIsFlushedNotClosed() throws IOException {
+        StringBuilder target = new StringBuilder();
+        boolean[] closed = {false};
+        Writer writer = new Writer() {
+            public void write(char[] buf, int off, int len) { target.append(buf, off, len); }
+            public void flush() { }
+            public void close() { closed[0] = true; }
+        };
+        range(5000).writeTo(writer);
+        assertFalse(closed[0]);
+        assertEquals(range(5000).toString(), target.toString());
+    }
+
+    @Test
+    public void testEstimateStringLength() {
+        assertEquals(2, range(0).estimateStringLength());
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]".length(), range(10).estimateStringLength());
+        DynamicArray<Integer> big = range(100000);
+        long actual = big.toString().length();
+        assertTrue(Math.abs(big.estimateStringLength() - actual) < actual / 10);
+    }
+
+    @Test
+    public void testToStringWithUnevenLengths() throws IOException {
+        // One long sampled element would put the estimate in the billions of characters
+        DynamicArray<String> arr = new DynamicArray<>(1000000);
+        arr.add(new String(new char[1 << 20]).replace('\0', 'x'));
+        for (int i = 1; i < 1000000; i++) {
+            arr.add("");
+        }
+        assertTrue(arr.estimateStringLength() > Integer.MAX_VALUE);
+        String text = arr.toString();
+        assertEquals(2 + (1 << 20) + 2 * (1000000 - 1), text.length());
+        StringBuilder sb = new StringBuilder();
+        arr.writeTo(sb);
+        assertEquals(sb.toString(), text);
+    }
+
+    @Test
+    public void testNestedToStringRendersEachElementOnce() {
+        int[] calls = {0};
+        Object counted = new Object() {
+            @Override
+            public String toString() {
+                calls[0]++;
+                return "e";
+            }
+        };
+        DynamicArray<Object> inner = new DynamicArray<>(2);
+        inner.add(counted);
+        inner.add(counted);
+        DynamicArray<Object> middle = new DynamicArray<>(2);
+        middle.add(inner);
+        middle.add(inner);
+        DynamicArray<Object> outer = new DynamicArray<>(2);
+        outer.add(middle);
+        outer.add(middle);
+        assertEquals("[[[e, e], [e, e]], [[e, e], [e, e]]]", outer.toString());
+        assertEquals(8, calls[0]);
+    }
+
+    @Test
+    public void testPreview() throws IOException {
+        assertEquals("[0, 1, ... (996 more), 998, 999]", range(1000).preview(2));
+        assertEquals("[... (3 more)]", range(3).preview(0));
+        assertEquals("[]", range(0).preview(0));
+        assertEquals(range(4).toString(), range(4).preview(2));
+        assertEquals("[0, ... (1 more), 2]", range(3).preview(1));
+
+        StringBuilder sb = new StringBuilder();
+        range(10000000 / 1000).writePreviewTo(sb, 1);
+        assertEquals("[0, ... (9998 more), 9999]", sb.toString());
+        assertThrows(IllegalArgumentException.class, () -> range(3).preview(-1));
+    }
+}
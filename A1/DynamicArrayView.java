@@ -0,0 +1,182 @@
+import java.util.ConcurrentModificationException;
+
+/**
+ * A window onto a range of a DynamicArray that shares its storage instead of copying it.
+ * Indices are translated by the start of the range. Adds and removes made through the
+ * view are made on the parent too; if the parent changes size any other way, every
+ * later call on the view throws ConcurrentModificationException.
+ * @param <J> the type of elements stored in the array
+ */
+public class DynamicArrayView<J> implements DynamicArrayADT<J> {
+    final DynamicArray<J> parent;
+    final int offset;
+    int size;
+    private int expectedModCount;
+
+    /**
+     * Constructs a view of parent covering [offset, offset + size).
+     * Use DynamicArray.view to create one with its bounds checked.
+     */
+    DynamicArrayView(DynamicArray<J> parent, int offset, int size) {
+        this.parent = parent;
+        this.offset = offset;
+        this.size = size;
+        this.expectedModCount = parent.modCount;
+    }
+
+    /**
+     * Throws if the parent has been structurally modified other than through this view.
+     * @throws ConcurrentModificationException if the view is stale
+     */
+    void checkForComodification() {
+        if (parent.modCount != expectedModCount) {
+            throw new ConcurrentModificationException("The parent array was structurally modified.");
+        }
+    }
+
+    private void checkIndex(int index) {
+        checkForComodification();
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        checkForComodification();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+    }
+
+    /**
+     * Returns a narrower view of this view, sharing the same parent.
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @return returns a view of that range
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public DynamicArrayView<J> view(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return new DynamicArrayView<>(parent, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a DynamicArray holding a copy of the elements in this view.
+     * @return returns the copy
+     */
+    public DynamicArray<J> copy() {
+        checkForComodification();
+        return DynamicArray.concat(this);
+    }
+
+    @Override
+    public J get(int index) {
+        checkIndex(index);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public J set(int index, J value) {
+        checkIndex(index);
+        return parent.set(offset + index, value);
+    }
+
+    @Override
+    public void add(int index, J value) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        parent.add(offset + index, value);
+        expectedModCount = parent.modCount;
+        size++;
+    }
+
+    @Override
+    public void add(J value) {
+        add(size, value);
+    }
+
+    @Override
+    public J remove(int index) {
+        checkIndex(index);
+        J removedValue = parent.remove(offset + index);
+        expectedModCount = parent.modCount;
+        size--;
+        return removedValue;
+    }
+
+    @Override
+    public DynamicArray<J> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return DynamicArray.concat(view(0, fromIndex), view(toIndex, size));
+    }
+
+    @Override
+    public DynamicArray<J> append(DynamicArrayADT<J> other) {
+        checkForComodification();
+        return DynamicArray.concat(this, other);
+    }
+
+    @Override
+    public DynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return DynamicArray.concat(view(0, index), other, view(index, size));
+    }
+
+    /**
+     * Returns a view of the range [fromIndex, toIndex); no elements are copied.
+     */
+    @Override
+    public DynamicArrayView<J> sublist(int fromIndex, int toIndex) {
+        return view(fromIndex, toIndex);
+    }
+
+    @Override
+    public DynamicArrayADT<J> extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        DynamicArrayADT<J> extracted = parent.extract(offset + fromIndex, offset + toIndex);
+        expectedModCount = parent.modCount;
+        size -= toIndex - fromIndex;
+        return extracted;
+    }
+
+    @Override
+    public DynamicArrayADT<J> splitPrefix(int index) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(0, index);
+    }
+
+    @Override
+    public DynamicArrayADT<J> splitSuffix(int index) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(index, size);
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        checkForComodification();
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(parent.get(offset + i));
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,106 @@
+import java.util.ConcurrentModificationException;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for DynamicArray views.
+ * Inherits every DynamicArrayTest case, run through a view of a larger parent array,
+ * then checks sharing, write-through and stale-view detection.
+ */
+public class DynamicArrayViewTest extends DynamicArrayTest {
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        DynamicArray<Character> parent = new DynamicArray<>(initialCapacity + 4);
+        for (char c : "<<>>".toCharArray()) {
+            parent.add(c);
+        }
+        return parent.view(2, 2);
+    }
+
+    // Helper: builds a plain DynamicArray from a string
+    public DynamicArray<Character> plainArray(String s) {
+        DynamicArray<Character> result = new DynamicArray<>(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    @Test
+    public void testViewReadsAndWritesThrough() {
+        DynamicArray<Character> parent = plainArray("abcdef");
+        DynamicArrayADT<Character> view = parent.view(1, 4);
+        compareToString(view, "bcd");
+
+        view.set(0, 'X');
+        compareToString(parent, "aXcdef");
+        parent.set(3, 'Y');
+        compareToString(view, "XcY");
+    }
+
+    @Test
+    public void testAddAndRemoveThroughView() {
+        DynamicArray<Character> parent = plainArray("abcdef");
+        DynamicArrayADT<Character> view = parent.view(2, 4);
+        view.add('z');
+        view.add(0, 'y');
+        compareToString(view, "ycdz");
+        compareToString(parent, "abycdzef");
+
+        assertEquals(Character.valueOf('c'), view.remove(1));
+        compareToString(view, "ydz");
+        compareToString(view.extract(0, 2), "yd");
+        compareToString(parent, "abzef");
+    }
+
+    @Test
+    public void testStaleViewFailsFast() {
+        DynamicArray<Character> parent = plainArray("abcdef");
+        DynamicArrayADT<Character> view = parent.view(1, 4);
+        parent.add('g');
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+        assertThrows(ConcurrentModificationException.class, () -> view.size());
+        assertThrows(ConcurrentModificationException.class, () -> view.append(plainArray("x")));
+
+        DynamicArrayADT<Character> view2 = parent.view(0, 2);
+        parent.splitSuffix(5);
+        assertThrows(ConcurrentModificationException.class, () -> view2.set(0, 'q'));
+
+        // set and capacity changes are not structural
+        DynamicArrayADT<Character> view3 = parent.view(0, 2);
+        parent.set(0, 'Q');
+        parent.ensureCapacity(1000);
+        compareToString(view3, "Qb");
+    }
+
+    @Test
+    public void testViewMode() {
+        DynamicArray<Character> parent = plainArray("abcdef");
+        DynamicArrayADT<Character> copy = parent.sublist(1, 3);
+        parent.setViewMode(true);
+        assertTrue(parent.isViewMode());
+        DynamicArrayADT<Character> view = parent.sublist(1, 3);
+
+        parent.set(1, 'B');
+        compareToString(copy, "bc");
+        compareToString(view, "Bc");
+
+        // Nested views and copies
+        DynamicArrayADT<Character> inner = view.sublist(1, 2);
+        compareToString(inner, "c");
+        compareToString(parent.extract(0, 3), "aBc");
+        assertThrows(ConcurrentModificationException.class, () -> inner.get(0));
+    }
+
+    @Test
+    public void testCopiesFromView() {
+        DynamicArray<Character> parent = plainArray("abcdef");
+        DynamicArrayView<Character> view = (DynamicArrayView<Character>) parent.view(1, 5);
+        compareToString(view.copy(), "bcde");
+        compareToString(parent.append(view), "abcdefbcde");
+        compareToString(parent.insert(1, view), "abcdebcdef");
+        compareToString(view.delete(1, 3), "be");
+    }
+}
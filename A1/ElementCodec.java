@@ -0,0 +1,83 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a fixed number of bytes, for arrays that keep their
+ * contents outside the Java heap. Every element takes exactly width() bytes, so the
+ * position of element i is simply i * width().
+ * <p>
+ * Codecs read and write with absolute offsets and never move the buffer's position.
+ * Fixed-width encodings have no room for null, so the codecs here reject it.
+ * @param <J> the type of elements encoded
+ */
+public interface ElementCodec<J> {
+
+    /**
+     * Returns the number of bytes every encoded element takes.
+     * @return returns the encoded width, at least 1
+     */
+    int width();
+
+    /**
+     * Writes value into buffer starting at offset.
+     * @param buffer the buffer to write to
+     * @param offset the absolute position of the first byte
+     * @param value the element to encode
+     */
+    void encode(ByteBuffer buffer, int offset, J value);
+
+    /**
+     * Reads the element stored in buffer starting at offset.
+     * @param buffer the buffer to read from
+     * @param offset the absolute position of the first byte
+     * @return returns the decoded element
+     */
+    J decode(ByteBuffer buffer, int offset);
+
+    /**
+     * Returns a codec storing each Integer in 4 bytes.
+     * @return returns the codec
+     */
+    static ElementCodec<Integer> ints() {
+        return new ElementCodec<Integer>() {
+            public int width() { return Integer.BYTES; }
+            public void encode(ByteBuffer buffer, int offset, Integer value) { buffer.putInt(offset, value); }
+            public Integer decode(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+        };
+    }
+
+    /**
+     * Returns a codec storing each Long in 8 bytes.
+     * @return returns the codec
+     */
+    static ElementCodec<Long> longs() {
+        return new ElementCodec<Long>() {
+            public int width() { return Long.BYTES; }
+            public void encode(ByteBuffer buffer, int offset, Long value) { buffer.putLong(offset, value); }
+            public Long decode(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+        };
+    }
+
+    /**
+     * Returns a codec storing each Double in 8 bytes.
+     * @return returns the codec
+     */
+    static ElementCodec<Double> doubles() {
+        return new ElementCodec<Double>() {
+            public int width() { return Double.BYTES; }
+            public void encode(ByteBuffer buffer, int offset, Double value) { buffer.putDouble(offset, value); }
+            public Double decode(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+        };
+    }
+
+    /**
+     * Returns a codec storing each Character in 2 bytes.
+     * @return returns the codec
+     */
+    static ElementCodec<Character> chars() {
+        return new ElementCodec<Character>() {
+            public int width() { return Character.BYTES; }
+            public void encode(ByteBuffer buffer, int offset, Character value) { buffer.putChar(offset, value); }
+            public Character decode(ByteBuffer buffer, int offset) { return buffer.getChar(offset); }
+        };
+    }
+}
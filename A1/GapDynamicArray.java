@@ -0,0 +1,366 @@
+import java.util.Arrays;
+
+/**
+ * A dynamic array stored as a circular gap buffer.
+ * The free slots of the backing array form one movable gap. Elements before the
+ * gap start at head; elements after it continue past the gap, wrapping around the
+ * end of the array. An edit at the gap costs O(1), and moving the gap copies the
+ * elements it passes with at most three System.arraycopy calls, so queue-like use at
+ * either end and repeated edits near a cursor are O(1) amortized.
+ * @param <J> the type of elements stored in the array
+ */
+public class GapDynamicArray<J> implements DynamicArrayADT<J> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private J[] data;
+    private int head;
+    private int gap;
+    private int size;
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * Constructs an empty GapDynamicArray with at least the specified initial capacity.
+     * The capacity is always a power of two so that wrapping is a bit mask.
+     * @param initialCapacity the initial capacity of the array
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public GapDynamicArray(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructs an empty GapDynamicArray with at least the specified initial capacity and a growth policy.
+     * Every capacity the policy returns is rounded up to a power of two, so a 1.5x or
+     * fixed increment policy only decides when the array doubles, never by how much.
+     * @param initialCapacity the initial capacity of the array
+     * @param growthPolicy decides the new capacity whenever the array is full
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public GapDynamicArray(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new ArrayIndexOutOfBoundsException("Initial capacity cannot be negative.");
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null.");
+        }
+        data = allocate(initialCapacity == 0 ? 0 : powerOfTwoAtLeast(initialCapacity));
+        head = 0;
+        gap = 0;
+        size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private J[] allocate(int len) {
+        return (J[]) new Object[len];
+    }
+
+    private static int powerOfTwoAtLeast(int n) {
+        if (n > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Capacity " + n + " is too large.");
+        }
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    /**
+     * Creates a GapDynamicArray of exactly the given size with the gap at the end,
+     * with the same growth policy as this one. The caller fills in all of its elements.
+     */
+    private GapDynamicArray<J> derive(int length) {
+        GapDynamicArray<J> newArray = new GapDynamicArray<>(length, growthPolicy);
+        newArray.size = length;
+        newArray.gap = length;
+        return newArray;
+    }
+
+    private int gapLength() {
+        return data.length - size;
+    }
+
+    /**
+     * Returns the slot in the backing array that holds the element at a logical index.
+     */
+    private int physical(int index) {
+        int offset = index < gap ? index : index + gapLength();
+        return (head + offset) & (data.length - 1);
+    }
+
+    /**
+     * Grows the backing array so it can take extra more elements, unwrapping it with the gap at the end.
+     * The policy's capacity is capped at MAX_CAPACITY, then rounded up to a power of two.
+     */
+    private void ensureRoom(int extra) {
+        int minCapacity = size + extra;
+        if (minCapacity <= data.length) {
+            return;
+        }
+        int wanted = Math.min(growthPolicy.grow(data.length, minCapacity), MAX_CAPACITY);
+        int newCapacity = powerOfTwoAtLeast(Math.max(minCapacity, wanted));
+        J[] newData = allocate(newCapacity);
+        copyOut(0, size, newData, 0);
+        data = newData;
+        head = 0;
+        gap = size;
+    }
+
+    /**
+     * Returns how many element moves it takes to bring the gap to a logical index,
+     * going either directly or around the ends of the ring.
+     */
+    private int distanceTo(int index) {
+        int direct = Math.abs(index - gap);
+        return Math.min(direct, size - direct);
+    }
+
+    /**
+     * Moves the gap to a logical index along the cheaper way around the ring.
+     */
+    private void moveGap(int index) {
+        int direct = Math.abs(index - gap);
+        if (direct <= size - direct) {
+            shiftGap(index);
+        } else if (index < gap) {
+            shiftGap(size);
+            head = (head - gapLength()) & (data.length - 1);
+            gap = 0;
+            shiftGap(index);
+        } else {
+            shiftGap(0);
+            head = (head + gapLength()) & (data.length - 1);
+            gap = size;
+            shiftGap(index);
+        }
+    }
+
+    /**
+     * Moves the gap directly to a logical index, carrying the elements in between
+     * across it and clearing the slots they leave behind.
+     */
+    private void shiftGap(int index) {
+        int mask = data.length - 1;
+        int gapLength = gapLength();
+        if (index < gap) {
+            int count = gap - index;
+            int from = (head + index) & mask;
+            moveRing(from, (from + gapLength) & mask, count, true);
+            clearRing(from, Math.min(count, gapLength));
+        } else if (index > gap) {
+            int count = index - gap;
+            int from = (head + gap + gapLength) & mask;
+            moveRing(from, (head + gap) & mask, count, false);
+            int cleared = Math.min(count, gapLength);
+            clearRing((from + count - cleared) & mask, cleared);
+        }
+        gap = index;
+    }
+
+    /**
+     * Copies count slots of the ring from slot from to slot to, one System.arraycopy per
+     * run that is contiguous at both ends: at most three, as each side wraps at most once.
+     * Runs are copied back to front when moving forward so no slot is overwritten before it is read.
+     */
+    private void moveRing(int from, int to, int count, boolean forward) {
+        int length = data.length;
+        if (forward) {
+            while (count > 0) {
+                int srcLast = (from + count - 1) & (length - 1);
+                int dstLast = (to + count - 1) & (length - 1);
+                int run = Math.min(count, Math.min(srcLast, dstLast) + 1);
+                System.arraycopy(data, srcLast - run + 1, data, dstLast - run + 1, run);
+                count -= run;
+            }
+        } else {
+            while (count > 0) {
+                int run = Math.min(count, Math.min(length - from, length - to));
+                System.arraycopy(data, from, data, to, run);
+                from = (from + run) & (length - 1);
+                to = (to + run) & (length - 1);
+                count -= run;
+            }
+        }
+    }
+
+    /**
+     * Sets count slots of the ring starting at slot from to null, in at most two runs.
+     */
+    private void clearRing(int from, int count) {
+        int run = Math.min(count, data.length - from);
+        Arrays.fill(data, from, from + run, null);
+        Arrays.fill(data, 0, count - run, null);
+    }
+
+    /**
+     * Copies the elements in [fromIndex, toIndex) into dest, one block per contiguous run.
+     */
+    private void copyOut(int fromIndex, int toIndex, Object[] dest, int destPos) {
+        while (fromIndex < toIndex) {
+            int start = physical(fromIndex);
+            int runEnd = fromIndex < gap ? Math.min(toIndex, gap) : toIndex;
+            int length = Math.min(runEnd - fromIndex, data.length - start);
+            System.arraycopy(data, start, dest, destPos, length);
+            fromIndex += length;
+            destPos += length;
+        }
+    }
+
+    /**
+     * Copies every element of source into dest starting at destPos.
+     */
+    private static <J> void copyInto(DynamicArrayADT<J> source, J[] dest, int destPos) {
+        if (source instanceof GapDynamicArray) {
+            GapDynamicArray<J> other = (GapDynamicArray<J>) source;
+            other.copyOut(0, other.size, dest, destPos);
+            return;
+        }
+        int length = source.size();
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = source.get(i);
+        }
+    }
+
+    /**
+     * Removes [fromIndex, toIndex) by widening the gap over it, from whichever side is closer.
+     */
+    private void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        if (distanceTo(toIndex) < distanceTo(fromIndex)) {
+            moveGap(toIndex);
+            clearRing(physical(fromIndex), count);
+            gap = fromIndex;
+        } else {
+            moveGap(fromIndex);
+            clearRing(physical(fromIndex), count);
+        }
+        size -= count;
+    }
+
+    @Override
+    public J get(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return data[physical(index)];
+    }
+
+    @Override
+    public J set(int index, J value) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        int slot = physical(index);
+        J oldValue = data[slot];
+        data[slot] = value;
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, J value) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        ensureRoom(1);
+        moveGap(index);
+        data[(head + gap) & (data.length - 1)] = value;
+        gap++;
+        size++;
+    }
+
+    @Override
+    public void add(J value) {
+        add(size, value);
+    }
+
+    @Override
+    public J remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        J removedValue = get(index);
+        removeRange(index, index + 1);
+        return removedValue;
+    }
+
+    @Override
+    public GapDynamicArray<J> delete(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+        GapDynamicArray<J> newArray = derive(size - (toIndex - fromIndex));
+        copyOut(0, fromIndex, newArray.data, 0);
+        copyOut(toIndex, size, newArray.data, fromIndex);
+        return newArray;
+    }
+
+    @Override
+    public GapDynamicArray<J> append(DynamicArrayADT<J> other) {
+        GapDynamicArray<J> newArray = derive(this.size + other.size());
+        copyOut(0, this.size, newArray.data, 0);
+        copyInto(other, newArray.data, this.size);
+        return newArray;
+    }
+
+    @Override
+    public GapDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        int otherSize = other.size();
+        GapDynamicArray<J> newArray = derive(this.size + otherSize);
+        copyOut(0, index, newArray.data, 0);
+        copyInto(other, newArray.data, index);
+        copyOut(index, this.size, newArray.data, index + otherSize);
+        return newArray;
+    }
+
+    @Override
+    public GapDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+        GapDynamicArray<J> newArray = derive(toIndex - fromIndex);
+        copyOut(fromIndex, toIndex, newArray.data, 0);
+        return newArray;
+    }
+
+    @Override
+    public GapDynamicArray<J> extract(int fromIndex, int toIndex) {
+        GapDynamicArray<J> newArray = sublist(fromIndex, toIndex);
+        removeRange(fromIndex, toIndex);
+        return newArray;
+    }
+
+    @Override
+    public GapDynamicArray<J> splitPrefix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(0, index);
+    }
+
+    @Override
+    public GapDynamicArray<J> splitSuffix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(index, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(data[physical(i)]);
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
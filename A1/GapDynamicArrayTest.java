@@ -0,0 +1,168 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the GapDynamicArray class.
+ * Inherits every DynamicArrayTest case, then checks gap movement and wrap-around.
+ */
+public class GapDynamicArrayTest extends DynamicArrayTest {
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        return new GapDynamicArray<>(initialCapacity);
+    }
+
+    // Compare contents against a java.util.List
+    public void compareToList(DynamicArrayADT<Integer> arr, List<Integer> expected) {
+        assertEquals(expected.size(), arr.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Mismatch at index " + i, expected.get(i), arr.get(i));
+        }
+    }
+
+    // ~*~ Queue use at both ends ~*~
+    @Test
+    public void testQueue() {
+        GapDynamicArray<Integer> queue = new GapDynamicArray<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            queue.add(i);
+            expected.add(i);
+            if (i % 3 == 0) {
+                assertEquals(expected.remove(0), queue.remove(0));
+            }
+        }
+        compareToList(queue, expected);
+        while (queue.size() > 0) {
+            assertEquals(expected.remove(0), queue.remove(0));
+        }
+    }
+
+    @Test
+    public void testDeque() {
+        GapDynamicArray<Integer> deque = new GapDynamicArray<>(0);
+        for (int i = 0; i < 100; i++) {
+            deque.add(0, -i);
+            deque.add(i);
+        }
+        assertEquals(Integer.valueOf(-99), deque.get(0));
+        assertEquals(Integer.valueOf(99), deque.get(199));
+        assertEquals(Integer.valueOf(99), deque.remove(199));
+        assertEquals(Integer.valueOf(-99), deque.remove(0));
+        assertEquals(198, deque.size());
+    }
+
+    @Test
+    public void testGapMovesAcrossTheWrap() {
+        // Every gap position against every head position, so runs split at the end of the ring
+        for (int shift = 0; shift < 16; shift++) {
+            for (int cursor = 0; cursor <= 12; cursor++) {
+                GapDynamicArray<Integer> arr = new GapDynamicArray<>(16);
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < shift; i++) {
+                    arr.add(-1);
+                    arr.remove(0);
+                }
+                for (int i = 0; i < 12; i++) {
+                    arr.add(i);
+                    expected.add(i);
+                }
+                arr.add(cursor, 100);
+                expected.add(cursor, 100);
+                arr.add(12 - cursor, 200);
+                expected.add(12 - cursor, 200);
+                assertEquals(expected.remove(cursor), arr.remove(cursor));
+                compareToList(arr, expected);
+            }
+        }
+    }
+
+    // ~*~ Growth policy ~*~
+    @Test
+    public void testGrowthPolicyIsRoundedToPowerOfTwo() {
+        List<Integer> capacities = new ArrayList<>();
+        GapDynamicArray<Integer> arr = new GapDynamicArray<>(3, (current, min) -> {
+            capacities.add(current);
+            return current + 1;
+        });
+        for (int i = 0; i < 100; i++) {
+            arr.add(0, i);
+        }
+        assertEquals(List.of(4, 8, 16, 32, 64), capacities);
+        assertEquals(Integer.valueOf(0), arr.get(99));
+        assertEquals(Integer.valueOf(99), arr.get(0));
+
+        // Derived arrays keep the policy
+        capacities.clear();
+        arr.sublist(0, 4).add(5);
+        assertEquals(List.of(4), capacities);
+        assertThrows(NullPointerException.class, () -> new GapDynamicArray<>(0, null));
+    }
+
+    // ~*~ Cursor editing ~*~
+    @Test
+    public void testCursorEdits() {
+        DynamicArrayADT<Character> text = stringToArray("abcdef");
+        int cursor = 3;
+        for (char c : "wxyz".toCharArray()) {
+            text.add(cursor++, c);
+        }
+        compareToString(text, "abcwxyzdef");
+        text.remove(--cursor);
+        text.remove(--cursor);
+        compareToString(text, "abcwxdef");
+        text.set(cursor, 'Q');
+        compareToString(text, "abcwxQef");
+    }
+
+    // ~*~ Random edits against ArrayList ~*~
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(42);
+        GapDynamicArray<Integer> arr = new GapDynamicArray<>(1);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(6);
+            if (op <= 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                arr.add(index, step);
+                expected.add(index, step);
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), arr.remove(index));
+            } else if (op == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -step), arr.set(index, -step));
+            } else {
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(Math.min(5, expected.size() - from) + 1);
+                List<Integer> range = expected.subList(from, to);
+                compareToList(arr.extract(from, to), new ArrayList<>(range));
+                range.clear();
+            }
+            compareToList(arr, expected);
+        }
+        compareToList(arr.append(arr), concat(expected, expected));
+        compareToList(arr.splitSuffix(expected.size() / 2), expected.subList(expected.size() / 2, expected.size()));
+    }
+
+    private static List<Integer> concat(List<Integer> a, List<Integer> b) {
+        List<Integer> result = new ArrayList<>(a);
+        result.addAll(b);
+        return result;
+    }
+
+    // ~*~ Mixing implementations ~*~
+    @Test
+    public void testWithOtherImplementations() {
+        DynamicArray<Character> plain = new DynamicArray<>(3);
+        plain.add('x');
+        plain.add('y');
+        compareToString(stringToArray("abc").insert(1, plain), "axybc");
+        compareToString(plain.append(stringToArray("abc")), "xyabc");
+    }
+}
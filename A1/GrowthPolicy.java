@@ -0,0 +1,56 @@
+/**
+ * Decides how much a DynamicArray grows when it runs out of room.
+ * Any function from the current capacity to a larger one can be used as a custom policy.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Largest capacity a policy hands out; some VMs reserve header words in an array.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the capacity an array should grow to.
+     * @param currentCapacity the length of the current backing array
+     * @param minCapacity the number of elements the array must be able to hold
+     * @return returns the new capacity; the array never uses less than minCapacity
+     */
+    int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * Returns a policy that doubles the capacity, starting from 1.
+     * @return returns the doubling policy
+     */
+    static GrowthPolicy doubling() {
+        return (currentCapacity, minCapacity) ->
+                clamp(Math.max(minCapacity, currentCapacity == 0 ? 1 : 2L * currentCapacity));
+    }
+
+    /**
+     * Returns a policy that grows the capacity by half, like java.util.ArrayList.
+     * @return returns the 1.5x policy
+     */
+    static GrowthPolicy oneAndHalf() {
+        return (currentCapacity, minCapacity) ->
+                clamp(Math.max(minCapacity, currentCapacity + (currentCapacity >> 1) + 1L));
+    }
+
+    /**
+     * Returns a policy that adds the same number of slots every time it grows.
+     * @param increment the number of slots added per growth
+     * @return returns the fixed increment policy
+     * @throws IllegalArgumentException if increment is not positive
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment must be positive.");
+        }
+        return (currentCapacity, minCapacity) ->
+                clamp(Math.max(minCapacity, (long) currentCapacity + increment));
+    }
+
+    private static int clamp(long capacity) {
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+}
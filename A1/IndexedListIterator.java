@@ -0,0 +1,101 @@
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A ListIterator over any DynamicArrayADT that works through get, set, add and remove.
+ * DynamicArrayADT has no modification counter, so this iterator fails fast when the array's
+ * size changes other than through the iterator; a same-size change (such as a remove followed
+ * by an add) cannot be detected.
+ * @param <J> the type of elements stored in the array
+ */
+final class IndexedListIterator<J> implements ListIterator<J> {
+    private final DynamicArrayADT<J> source;
+    private int cursor;
+    private int lastReturned = -1;
+    private int expectedSize;
+
+    IndexedListIterator(DynamicArrayADT<J> source, int index) {
+        if (index < 0 || index > source.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        this.source = source;
+        this.cursor = index;
+        this.expectedSize = source.size();
+    }
+
+    private void checkForComodification() {
+        if (source.size() != expectedSize) {
+            throw new ConcurrentModificationException("The array was structurally modified.");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < expectedSize;
+    }
+
+    @Override
+    public J next() {
+        checkForComodification();
+        if (cursor >= expectedSize) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = cursor++;
+        return source.get(lastReturned);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return cursor > 0;
+    }
+
+    @Override
+    public J previous() {
+        checkForComodification();
+        if (cursor <= 0) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = --cursor;
+        return source.get(lastReturned);
+    }
+
+    @Override
+    public int nextIndex() {
+        return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+        return cursor - 1;
+    }
+
+    @Override
+    public void remove() {
+        if (lastReturned < 0) {
+            throw new IllegalStateException();
+        }
+        checkForComodification();
+        source.remove(lastReturned);
+        cursor = lastReturned;
+        lastReturned = -1;
+        expectedSize = source.size();
+    }
+
+    @Override
+    public void set(J value) {
+        if (lastReturned < 0) {
+            throw new IllegalStateException();
+        }
+        checkForComodification();
+        source.set(lastReturned, value);
+    }
+
+    @Override
+    public void add(J value) {
+        checkForComodification();
+        source.add(cursor++, value);
+        lastReturned = -1;
+        expectedSize = source.size();
+    }
+}
@@ -0,0 +1,71 @@
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A Spliterator over any DynamicArrayADT that reads elements with get(i).
+ * It splits its range in half, so parallel streams divide the work evenly. The end of the
+ * range is read from size() when traversal starts, not when the spliterator is created.
+ * @param <J> the type of elements stored in the array
+ */
+final class IndexedSpliterator<J> implements Spliterator<J> {
+    private final DynamicArrayADT<J> source;
+    private int index;
+    private int fence;
+
+    /**
+     * Creates a spliterator over source[origin, fence); a negative fence means "up to size()".
+     */
+    IndexedSpliterator(DynamicArrayADT<J> source, int origin, int fence) {
+        this.source = source;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    private int getFence() {
+        if (fence < 0) {
+            fence = source.size();
+        }
+        return fence;
+    }
+
+    @Override
+    public Spliterator<J> trySplit() {
+        int hi = getFence();
+        int lo = index;
+        int mid = (lo + hi) >>> 1;
+        return lo >= mid ? null : new IndexedSpliterator<>(source, lo, index = mid);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super J> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        if (index < getFence()) {
+            action.accept(source.get(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super J> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int hi = getFence();
+        for (; index < hi; index++) {
+            action.accept(source.get(index));
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,102 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the IntDynamicArray class, plus the capacity management
+ * shared by all of the primitive dynamic arrays.
+ */
+public class IntDynamicArrayTest {
+
+    // Helper: builds an array holding 0 .. n-1
+    public IntDynamicArray range(int n) {
+        IntDynamicArray result = new IntDynamicArray(0);
+        for (int i = 0; i < n; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    @Test
+    public void testGrowth() {
+        IntDynamicArray arr = range(1000);
+        assertEquals(1000, arr.size());
+        assertEquals(1024, arr.capacity());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, arr.get(i));
+        }
+        arr.trimToSize();
+        assertEquals(1000, arr.capacity());
+        arr.ensureCapacity(5000);
+        assertTrue(arr.capacity() >= 5000);
+
+        IntDynamicArray fixed = new IntDynamicArray(0, GrowthPolicy.fixedIncrement(10));
+        fixed.add(1);
+        assertEquals(10, fixed.capacity());
+    }
+
+    @Test
+    public void testShifts() {
+        IntDynamicArray arr = range(5);
+        arr.add(0, -1);
+        arr.add(3, 99);
+        assertArrayEquals(new int[] {-1, 0, 1, 99, 2, 3, 4}, arr.toArray());
+        assertEquals(99, arr.remove(3));
+        assertEquals(-1, arr.remove(0));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, arr.toArray());
+    }
+
+    @Test
+    public void testGroup3() {
+        IntDynamicArray arr = range(6);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 0, 1}, arr.append(range(2)).toArray());
+        assertArrayEquals(new int[] {0, 0, 1, 2, 1, 2, 3, 4, 5}, arr.insert(1, range(3)).toArray());
+        assertArrayEquals(new int[] {2, 3}, arr.sublist(2, 4).toArray());
+        assertArrayEquals(new int[] {0, 1, 4, 5}, arr.delete(2, 4).toArray());
+        assertEquals(6, arr.size());
+
+        assertArrayEquals(new int[] {1, 2}, arr.extract(1, 3).toArray());
+        assertArrayEquals(new int[] {0, 3, 4, 5}, arr.toArray());
+        assertArrayEquals(new int[] {0}, arr.splitPrefix(1).toArray());
+        assertArrayEquals(new int[] {5}, arr.splitSuffix(2).toArray());
+        assertArrayEquals(new int[] {3, 4}, arr.toArray());
+        assertEquals("[3, 4]", arr.toString());
+    }
+
+    @Test
+    public void testOtherPrimitives() {
+        LongDynamicArray longs = new LongDynamicArray(1);
+        longs.add(Long.MAX_VALUE);
+        longs.add(0, 7);
+        assertArrayEquals(new long[] {7, Long.MAX_VALUE}, longs.toArray());
+
+        DoubleDynamicArray doubles = new DoubleDynamicArray(1);
+        doubles.add(0.5);
+        doubles.add(1.5);
+        assertEquals("[1.5, 0.5]", doubles.append(doubles).sublist(1, 3).toString());
+    }
+
+    @Test
+    public void testEqualsAndCompare() {
+        IntDynamicArray a = range(1000);
+        IntDynamicArray b = range(1000);
+        b.ensureCapacity(4000);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(-1, a.mismatch(b));
+        b.set(700, -1);
+        assertNotEquals(a, b);
+        assertEquals(700, a.mismatch(b));
+        assertEquals(10, range(10).mismatch(a));
+        assertTrue(a.compareRange(0, 1000, b, 0, 1000) > 0);
+        assertEquals(0, a.compareRange(0, 700, b, 0, 700));
+        assertTrue(range(5).compareRange(0, 5, a, 0, 6) < 0);
+        b.fill(0, 1000, 3);
+        assertEquals(3, b.get(999));
+        assertEquals(0, b.compareRange(0, 2, b, 998, 1000));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testFillChecksRange() {
+        range(3).fill(1, 4, 0);
+    }
+}
@@ -0,0 +1,317 @@
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+/**
+ * A dynamic array described as a list of ranges of other arrays instead of a copy of them.
+ * append, insert, delete, sublist, extract and the splits only rearrange the ranges, so a
+ * chain like a.lazy().append(b).insert(3, c).delete(10, 20).sublist(0, 100) does no copying
+ * at all; get reads through to the right source, and materialize copies exactly the
+ * surviving ranges into a new DynamicArray in one pass.
+ * <p>
+ * Sources are read when the lazy array is evaluated, so sets made on them later show
+ * through. If a DynamicArray source changes size or is sorted, every later read throws
+ * ConcurrentModificationException. The lazy array never writes to its sources: the first
+ * set, add or remove on it copies its elements into an array of its own.
+ * @param <J> the type of elements stored in the array
+ */
+public class LazyDynamicArray<J> implements DynamicArrayADT<J> {
+
+    /**
+     * The elements [from, to) of source.
+     */
+    private static final class Range<J> {
+        final DynamicArrayADT<J> source;
+        final int from;
+        final int to;
+        final int expectedModCount;
+
+        Range(DynamicArrayADT<J> source, int from, int to) {
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.expectedModCount = source instanceof DynamicArray ? ((DynamicArray<J>) source).modCount : 0;
+        }
+
+        void checkForComodification() {
+            if (source instanceof DynamicArray && ((DynamicArray<J>) source).modCount != expectedModCount) {
+                throw new ConcurrentModificationException("A source array was structurally modified.");
+            }
+        }
+    }
+
+    private List<Range<J>> ranges;
+    /** starts[i] is the index in this array of the first element of ranges.get(i). */
+    private int[] starts;
+    private int size;
+    /** The array this one copied itself into on its first write, or null. */
+    private DynamicArray<J> owned;
+    /** Whether another lazy array reads from owned, so the next write must copy again. */
+    private boolean ownedShared;
+
+    private LazyDynamicArray(List<Range<J>> ranges) {
+        setRanges(ranges);
+    }
+
+    /**
+     * Returns a lazy array over all of source. Nothing is copied.
+     * @param source the array to read from
+     * @return returns a LazyDynamicArray with the elements of source
+     */
+    public static <J> LazyDynamicArray<J> of(DynamicArrayADT<J> source) {
+        List<Range<J>> ranges = new ArrayList<>();
+        addRange(ranges, source, 0, source.size());
+        return new LazyDynamicArray<>(ranges);
+    }
+
+    private void setRanges(List<Range<J>> ranges) {
+        this.ranges = ranges;
+        starts = new int[ranges.size()];
+        size = 0;
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = size;
+            size += ranges.get(i).to - ranges.get(i).from;
+        }
+    }
+
+    /**
+     * Adds source[from, to) to out, looking through views and other lazy arrays to the arrays
+     * underneath, and joining it to the last range if it continues it.
+     */
+    private static <J> void addRange(List<Range<J>> out, DynamicArrayADT<J> source, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        if (source instanceof LazyDynamicArray) {
+            ((LazyDynamicArray<J>) source).slice(from, to, out);
+            return;
+        }
+        if (source instanceof DynamicArrayView) {
+            DynamicArrayView<J> view = (DynamicArrayView<J>) source;
+            view.checkForComodification();
+            source = view.parent;
+            from += view.offset;
+            to += view.offset;
+        }
+        if (!out.isEmpty()) {
+            Range<J> last = out.get(out.size() - 1);
+            if (last.source == source && last.to == from) {
+                out.set(out.size() - 1, new Range<>(source, last.from, to));
+                return;
+            }
+        }
+        out.add(new Range<>(source, from, to));
+    }
+
+    /**
+     * Adds the ranges covering this array's elements [fromIndex, toIndex) to out.
+     */
+    private void slice(int fromIndex, int toIndex, List<Range<J>> out) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        ownedShared |= owned != null;
+        for (int k = rangeAt(fromIndex); k < starts.length && starts[k] < toIndex; k++) {
+            Range<J> range = ranges.get(k);
+            range.checkForComodification();
+            int from = range.from + Math.max(0, fromIndex - starts[k]);
+            int to = range.from + Math.min(range.to - range.from, toIndex - starts[k]);
+            addRange(out, range.source, from, to);
+        }
+    }
+
+    /**
+     * Returns the position in ranges of the range holding index.
+     */
+    private int rangeAt(int index) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+    }
+
+    /**
+     * Returns the number of source ranges this array is made of.
+     * @return returns the number of ranges materialize would copy
+     */
+    public int rangeCount() {
+        return ranges.size();
+    }
+
+    /**
+     * Copies the elements into a new DynamicArray, one range at a time, in a single pass.
+     * @return returns a DynamicArray holding the elements of this array
+     * @throws ConcurrentModificationException if a source array changed size
+     */
+    public DynamicArray<J> materialize() {
+        for (Range<J> range : ranges) {
+            range.checkForComodification();
+        }
+        return DynamicArray.build(size, out -> {
+            for (int k = 0; k < starts.length; k++) {
+                Range<J> range = ranges.get(k);
+                DynamicArray.copyRange(range.source, range.from, range.to, out, starts[k]);
+            }
+        });
+    }
+
+    /**
+     * Copies the elements into an array of this lazy array's own before the first write, and
+     * again if other lazy arrays have been built from that copy since. Afterwards the lazy
+     * array is a single range over the copy.
+     */
+    private DynamicArray<J> own() {
+        if (owned == null || ownedShared) {
+            owned = materialize();
+            ownedShared = false;
+            resetToOwned();
+        }
+        return owned;
+    }
+
+    private void resetToOwned() {
+        List<Range<J>> single = new ArrayList<>();
+        addRange(single, owned, 0, owned.size());
+        setRanges(single);
+    }
+
+    @Override
+    public J get(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        int k = rangeAt(index);
+        Range<J> range = ranges.get(k);
+        range.checkForComodification();
+        return range.source.get(range.from + index - starts[k]);
+    }
+
+    /**
+     * Updates the element at index. The first write copies this array's elements.
+     */
+    @Override
+    public J set(int index, J value) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return own().set(index, value);
+    }
+
+    /**
+     * Inserts value at index. The first write copies this array's elements.
+     */
+    @Override
+    public void add(int index, J value) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        own().add(index, value);
+        resetToOwned();
+    }
+
+    @Override
+    public void add(J value) {
+        add(size, value);
+    }
+
+    /**
+     * Removes the element at index. The first write copies this array's elements.
+     */
+    @Override
+    public J remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        J removedValue = own().remove(index);
+        resetToOwned();
+        return removedValue;
+    }
+
+    @Override
+    public LazyDynamicArray<J> append(DynamicArrayADT<J> other) {
+        List<Range<J>> out = new ArrayList<>(ranges.size() + 1);
+        slice(0, size, out);
+        addRange(out, other, 0, other.size());
+        return new LazyDynamicArray<>(out);
+    }
+
+    @Override
+    public LazyDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        List<Range<J>> out = new ArrayList<>(ranges.size() + 2);
+        slice(0, index, out);
+        addRange(out, other, 0, other.size());
+        slice(index, size, out);
+        return new LazyDynamicArray<>(out);
+    }
+
+    @Override
+    public LazyDynamicArray<J> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        List<Range<J>> out = new ArrayList<>(ranges.size() + 1);
+        slice(0, fromIndex, out);
+        slice(toIndex, size, out);
+        return new LazyDynamicArray<>(out);
+    }
+
+    @Override
+    public LazyDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        List<Range<J>> out = new ArrayList<>();
+        slice(fromIndex, toIndex, out);
+        return new LazyDynamicArray<>(out);
+    }
+
+    /**
+     * Returns the range [fromIndex, toIndex) as a lazy array and drops it from this one.
+     * Neither copies any elements.
+     */
+    @Override
+    public LazyDynamicArray<J> extract(int fromIndex, int toIndex) {
+        LazyDynamicArray<J> extracted = sublist(fromIndex, toIndex);
+        setRanges(delete(fromIndex, toIndex).ranges);
+        owned = null;
+        return extracted;
+    }
+
+    @Override
+    public LazyDynamicArray<J> splitPrefix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(0, index);
+    }
+
+    @Override
+    public LazyDynamicArray<J> splitSuffix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(index, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return materialize().toString();
+    }
+}
@@ -0,0 +1,98 @@
+import java.util.ConcurrentModificationException;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the LazyDynamicArray class.
+ * Inherits every DynamicArrayTest case, then checks that chained operations only rearrange ranges.
+ */
+public class LazyDynamicArrayTest extends DynamicArrayTest {
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        return new DynamicArray<Character>(initialCapacity).lazy();
+    }
+
+    // Helper: builds a plain DynamicArray from string
+    public DynamicArray<Character> plainArray(String s) {
+        DynamicArray<Character> result = new DynamicArray<>(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    // ~*~ Chains ~*~
+    @Test
+    public void testChainMatchesEagerVersion() {
+        DynamicArray<Character> a = plainArray("abcdefghijklmnop");
+        DynamicArray<Character> b = plainArray("ABCDEFGH");
+        DynamicArray<Character> c = plainArray("0123");
+        DynamicArrayADT<Character> eager = a.append(b).insert(3, c).delete(10, 20).sublist(2, 15);
+        LazyDynamicArray<Character> lazy = a.lazy().append(b).insert(3, c).delete(10, 20).sublist(2, 15);
+        assertEquals(eager.toString(), lazy.toString());
+        assertEquals(eager.toString(), lazy.materialize().toString());
+        for (int i = 0; i < eager.size(); i++) {
+            assertEquals(eager.get(i), lazy.get(i));
+        }
+    }
+
+    @Test
+    public void testChainDoesNotCopy() {
+        DynamicArray<Character> a = plainArray("abcdefgh");
+        LazyDynamicArray<Character> lazy = a.lazy().delete(2, 4).insert(2, a.view(2, 4));
+        assertEquals(1, lazy.rangeCount());
+        assertEquals("[a, b, c, d, e, f, g, h]", lazy.toString());
+        a.set(0, 'z');
+        assertEquals(Character.valueOf('z'), lazy.get(0));
+        assertEquals(4, a.lazy().append(plainArray("xy")).insert(1, plainArray("q")).rangeCount());
+    }
+
+    @Test
+    public void testSourceSizeChangeIsDetected() {
+        DynamicArray<Character> a = plainArray("abc");
+        LazyDynamicArray<Character> lazy = a.lazy().sublist(0, 2);
+        a.add('d');
+        try {
+            lazy.get(0);
+            fail();
+        } catch (ConcurrentModificationException expected) {
+            // a grew after the lazy array was built
+        }
+        try {
+            lazy.materialize();
+            fail();
+        } catch (ConcurrentModificationException expected) {
+            // same for materialize
+        }
+    }
+
+    @Test
+    public void testWritesNeverReachSources() {
+        DynamicArray<Character> a = plainArray("abc");
+        LazyDynamicArray<Character> lazy = a.lazy();
+        lazy.set(0, 'x');
+        lazy.add('d');
+        lazy.remove(1);
+        assertEquals("[x, c, d]", lazy.toString());
+        assertEquals("[a, b, c]", a.toString());
+        LazyDynamicArray<Character> derived = lazy.append(plainArray("!"));
+        lazy.set(0, 'y');
+        assertEquals("[x, c, d, !]", derived.toString());
+        assertEquals("[y, c, d]", lazy.toString());
+    }
+
+    @Test
+    public void testExtractAndSplits() {
+        DynamicArray<Character> a = plainArray("abcdefgh");
+        LazyDynamicArray<Character> lazy = a.lazy();
+        assertEquals("[c, d]", lazy.extract(2, 4).toString());
+        assertEquals("[a, b, e, f, g, h]", lazy.toString());
+        assertEquals(2, lazy.rangeCount());
+        assertEquals("[a]", lazy.splitPrefix(1).toString());
+        assertEquals("[g, h]", lazy.splitSuffix(3).toString());
+        assertEquals("[b, e, f]", lazy.toString());
+        assertEquals("[a, b, c, d, e, f, g, h]", a.toString());
+    }
+}
@@ -0,0 +1,140 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the LongDynamicArray class.
+ * They mirror DynamicArrayTest, using unboxed longs instead of Long.
+ */
+public class LongDynamicArrayTest {
+
+    // Helper: builds array from values
+    public LongDynamicArray of(long... values) {
+        LongDynamicArray result = new LongDynamicArray(values.length);
+        for (long value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    // Compare contents
+    public void compareTo(LongDynamicArray arr, long... values) {
+        assertArrayEquals(values, arr.toArray());
+    }
+
+    // ~*~ Constructor ~*~
+    @Test
+    public void testConstructor() {
+        assertEquals(0, new LongDynamicArray(5).size());
+        assertEquals(0, new LongDynamicArray(0).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> new LongDynamicArray(-1));
+
+        LongDynamicArray original = of(1, 2, 3);
+        LongDynamicArray copy = new LongDynamicArray(original);
+        copy.set(0, 9);
+        compareTo(original, 1, 2, 3);
+        compareTo(copy, 9, 2, 3);
+    }
+
+    // ~*~ Get / Set ~*~
+    @Test
+    public void testGetSet() {
+        LongDynamicArray arr = of(1, Long.MIN_VALUE, 3);
+        assertEquals(Long.MIN_VALUE, arr.get(1));
+        assertEquals(Long.MIN_VALUE, arr.set(1, Long.MAX_VALUE));
+        compareTo(arr, 1, Long.MAX_VALUE, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.set(-1, 0));
+    }
+
+    // ~*~ Add ~*~
+    @Test
+    public void testAdd() {
+        LongDynamicArray arr = new LongDynamicArray(0);
+        arr.add(2);
+        arr.add(0, 1);
+        arr.add(2, 4);
+        arr.add(2, 3);
+        compareTo(arr, 1, 2, 3, 4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.add(5, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.add(-1, 5));
+    }
+
+    // ~*~ Remove ~*~
+    @Test
+    public void testRemove() {
+        LongDynamicArray arr = of(1, 2, 3, 4);
+        assertEquals(3, arr.remove(2));
+        compareTo(arr, 1, 2, 4);
+        assertEquals(1, arr.remove(0));
+        compareTo(arr, 2, 4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arr.remove(2));
+    }
+
+    // ~*~ Group 3 ~*~
+    @Test
+    public void testAppendInsert() {
+        compareTo(of(1, 2, 3).append(of(7, 8)), 1, 2, 3, 7, 8);
+        compareTo(of(1, 2, 3).insert(1, of(7, 8)), 1, 7, 8, 2, 3);
+        LongDynamicArray self = of(1, 2);
+        compareTo(self.insert(1, self), 1, 1, 2, 2);
+        compareTo(of().insert(0, of()));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).insert(4, of(7)));
+    }
+
+    @Test
+    public void testSublistDelete() {
+        compareTo(of(1, 2, 3, 4, 5, 6).sublist(1, 4), 2, 3, 4);
+        compareTo(of(1, 2, 3, 4, 5, 6).delete(2, 4), 1, 2, 5, 6);
+        compareTo(of(1, 2, 3, 4, 5, 6).delete(0, 6));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).sublist(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).delete(0, 4));
+    }
+
+    @Test
+    public void testExtractAndSplits() {
+        LongDynamicArray arr = of(1, 2, 3, 4, 5, 6);
+        compareTo(arr.extract(2, 5), 3, 4, 5);
+        compareTo(arr, 1, 2, 6);
+
+        LongDynamicArray arr2 = of(1, 2, 3, 4, 5, 6);
+        compareTo(arr2.splitPrefix(2), 1, 2);
+        compareTo(arr2, 3, 4, 5, 6);
+
+        LongDynamicArray arr3 = of(1, 2, 3, 4, 5, 6);
+        compareTo(arr3.splitSuffix(2), 3, 4, 5, 6);
+        compareTo(arr3, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).extract(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).splitPrefix(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2, 3).splitSuffix(-1));
+    }
+
+    // ~*~ ToString ~*~
+    @Test
+    public void testToStringFormat() {
+        assertEquals("[1, -2, 9223372036854775807]", of(1, -2, Long.MAX_VALUE).toString());
+        assertEquals("[]", of().toString());
+    }
+
+    // ~*~ Equality ~*~
+    @Test
+    public void testEqualsAndMismatch() {
+        assertEquals(of(1, 2, 3), of(1, 2, 3));
+        assertEquals(of(1, 2, 3).hashCode(), of(1, 2, 3).hashCode());
+        assertNotEquals(of(1, 2, 3), of(1, 2, 4));
+        assertNotEquals(of(1, 2), of(1, 2, 3));
+        assertEquals(2, of(1, 2, 3).mismatch(of(1, 2, 4)));
+        assertEquals(-1, of(1, 2, 3).mismatch(of(1, 2, 3)));
+        assertTrue(of(1, 2, 3).compareRange(0, 3, of(1, 2, 4), 0, 3) < 0);
+        assertTrue(of(Long.MAX_VALUE).compareRange(0, 1, of(Long.MIN_VALUE), 0, 1) > 0);
+        LongDynamicArray arr = of(1, 2, 3, 4);
+        arr.fill(1, 3, 0);
+        compareTo(arr, 1, 0, 0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 2).fill(1, 3, 0));
+    }
+}
@@ -0,0 +1,503 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A dynamic array whose elements live in a memory-mapped file rather than on the Java heap.
+ * Each element is stored as width() bytes by an ElementCodec, so the garbage collector never
+ * sees the contents, and the array can hold more than Integer.MAX_VALUE elements through the
+ * long-indexed methods.
+ * <p>
+ * The file starts with a small header (magic number, format version, element width, region
+ * length and size) followed by the elements. The data is mapped in fixed-length regions; growing
+ * maps one more region at the end of the file instead of remapping what is already there.
+ * Reopening the same file with open() gives back the same elements.
+ * <p>
+ * append, insert, delete and sublist, extract and the splits return arrays backed by
+ * temporary files that are removed when they are closed. Close every array when done with it;
+ * the mappings themselves are released by the JVM once they become unreachable.
+ * This class is not thread-safe.
+ * @param <J> the type of elements stored in the array
+ */
+public class OffHeapDynamicArray<J> implements DynamicArrayADT<J>, Closeable {
+    private static final int MAGIC = 0x44594E41;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int REGION_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+
+    /**
+     * Default number of bytes mapped per region.
+     */
+    static final int DEFAULT_REGION_BYTES = 1 << 26;
+
+    /**
+     * Bytes moved at a time when elements are shifted or copied between arrays.
+     */
+    private static final int COPY_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ElementCodec<J> codec;
+    private final int width;
+    private final int regionElements;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] regions;
+    private int regionCount;
+    private long size;
+    private byte[] scratch;
+
+    private OffHeapDynamicArray(FileChannel channel, ElementCodec<J> codec, int regionElements) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.width();
+        if (width < 1) {
+            throw new IllegalArgumentException("Codec width must be positive.");
+        }
+        boolean fresh = channel.size() == 0;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        if (fresh) {
+            this.regionElements = regionElements;
+            header.putInt(MAGIC_OFFSET, MAGIC);
+            header.putInt(VERSION_OFFSET, VERSION);
+            header.putInt(WIDTH_OFFSET, width);
+            header.putInt(REGION_OFFSET, regionElements);
+            header.putLong(SIZE_OFFSET, 0);
+        } else {
+            if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Not an OffHeapDynamicArray file.");
+            }
+            if (header.getInt(WIDTH_OFFSET) != width) {
+                throw new IOException("Element width does not match the codec.");
+            }
+            this.regionElements = header.getInt(REGION_OFFSET);
+            this.size = header.getLong(SIZE_OFFSET);
+            if (regionElements < 1 || size < 0) {
+                throw new IOException("Corrupt OffHeapDynamicArray header.");
+            }
+        }
+        this.regions = new MappedByteBuffer[1];
+        ensureCapacity(size);
+    }
+
+    /**
+     * Opens the array stored in file, creating an empty one if the file does not exist.
+     * @param file the file holding the array
+     * @param codec converts elements to and from bytes; must match the one the file was written with
+     * @return returns the array
+     * @throws IOException if the file cannot be mapped or holds something else
+     */
+    public static <J> OffHeapDynamicArray<J> open(Path file, ElementCodec<J> codec) throws IOException {
+        return open(file, codec, DEFAULT_REGION_BYTES);
+    }
+
+    /**
+     * Opens file with the given region length in bytes, which only applies if the file is new.
+     */
+    static <J> OffHeapDynamicArray<J> open(Path file, ElementCodec<J> codec, int regionBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        return create(channel, codec, regionBytes / codec.width());
+    }
+
+    /**
+     * Creates an empty array backed by a temporary file that is deleted when the array is closed.
+     * @param codec converts elements to and from bytes
+     * @return returns the array
+     * @throws IOException if the temporary file cannot be created or mapped
+     */
+    public static <J> OffHeapDynamicArray<J> temporary(ElementCodec<J> codec) throws IOException {
+        return temporary(codec, DEFAULT_REGION_BYTES / codec.width());
+    }
+
+    private static <J> OffHeapDynamicArray<J> temporary(ElementCodec<J> codec, int regionElements) throws IOException {
+        Path file = Files.createTempFile("dynamic-array", ".bin");
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        try {
+            // Unlinking now means the file cannot outlive the process, even if close is never called
+            Files.delete(file);
+        } catch (IOException e) {
+            // Some platforms cannot delete an open file; DELETE_ON_CLOSE removes it instead
+        }
+        return create(channel, codec, regionElements);
+    }
+
+    private static <J> OffHeapDynamicArray<J> create(FileChannel channel, ElementCodec<J> codec, int regionElements)
+            throws IOException {
+        try {
+            return new OffHeapDynamicArray<>(channel, codec, Math.max(1, regionElements));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns an empty temporary array with the same codec and region length, for Group 3 results.
+     */
+    private OffHeapDynamicArray<J> derive() {
+        try {
+            return temporary(codec, regionElements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ~*~ Storage ~*~
+
+    /**
+     * Returns the number of elements the mapped regions can hold.
+     * @return returns the capacity
+     */
+    public long capacity() {
+        return (long) regionCount * regionElements;
+    }
+
+    /**
+     * Maps more regions, if needed, so the array can hold minCapacity elements without growing.
+     * @param minCapacity the number of elements needed
+     * @throws UncheckedIOException if the file cannot be extended
+     */
+    public void ensureCapacity(long minCapacity) {
+        checkOpen();
+        long regionBytes = (long) regionElements * width;
+        try {
+            while (capacity() < minCapacity) {
+                if (regionCount == regions.length) {
+                    regions = Arrays.copyOf(regions, regionCount * 2);
+                }
+                long position = HEADER_BYTES + regionCount * regionBytes;
+                regions[regionCount++] = channel.map(FileChannel.MapMode.READ_WRITE, position, regionBytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes any changes still held in memory to the file.
+     */
+    public void force() {
+        checkOpen();
+        header.force();
+        for (int i = 0; i < regionCount; i++) {
+            regions[i].force();
+        }
+    }
+
+    /**
+     * Saves the size and closes the file. Any later call on this array throws IllegalStateException.
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (regions != null) {
+            regions = null;
+            channel.close();
+        }
+    }
+
+    private void checkOpen() {
+        if (regions == null) {
+            throw new IllegalStateException("The array is closed.");
+        }
+    }
+
+    private void setSize(long newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    private ByteBuffer regionOf(long index) {
+        return regions[(int) (index / regionElements)];
+    }
+
+    private int offsetOf(long index) {
+        return (int) (index % regionElements) * width;
+    }
+
+    /**
+     * Copies the bytes of count elements starting at index into, or out of, buffer.
+     */
+    private void transfer(long index, int count, byte[] buffer, boolean write) {
+        int pos = 0;
+        while (count > 0) {
+            ByteBuffer region = regionOf(index);
+            int n = Math.min(count, regionElements - (int) (index % regionElements));
+            if (write) {
+                region.put(offsetOf(index), buffer, pos, n * width);
+            } else {
+                region.get(offsetOf(index), buffer, pos, n * width);
+            }
+            pos += n * width;
+            index += n;
+            count -= n;
+        }
+    }
+
+    private byte[] scratch() {
+        if (scratch == null) {
+            scratch = new byte[Math.max(width, COPY_BYTES / width * width)];
+        }
+        return scratch;
+    }
+
+    /**
+     * Moves count elements from index from to index to within this array; the ranges may overlap.
+     */
+    private void move(long from, long to, long count) {
+        if (count == 0 || from == to) {
+            return;
+        }
+        byte[] buffer = scratch();
+        int chunk = buffer.length / width;
+        if (to < from) {
+            for (long done = 0; done < count; ) {
+                int n = (int) Math.min(chunk, count - done);
+                transfer(from + done, n, buffer, false);
+                transfer(to + done, n, buffer, true);
+                done += n;
+            }
+        } else {
+            for (long left = count; left > 0; ) {
+                int n = (int) Math.min(chunk, left);
+                left -= n;
+                transfer(from + left, n, buffer, false);
+                transfer(to + left, n, buffer, true);
+            }
+        }
+    }
+
+    /**
+     * Adds source[fromIndex, toIndex) to the end of this array, copying raw bytes.
+     */
+    private void addRange(OffHeapDynamicArray<J> source, long fromIndex, long toIndex) {
+        ensureCapacity(size + (toIndex - fromIndex));
+        byte[] buffer = source.scratch();
+        int chunk = buffer.length / width;
+        for (long i = fromIndex; i < toIndex; ) {
+            int n = (int) Math.min(chunk, toIndex - i);
+            source.transfer(i, n, buffer, false);
+            transfer(size, n, buffer, true);
+            setSize(size + n);
+            i += n;
+        }
+    }
+
+    private void addAll(DynamicArrayADT<J> other) {
+        if (other instanceof OffHeapDynamicArray && ((OffHeapDynamicArray<J>) other).width == width) {
+            OffHeapDynamicArray<J> source = (OffHeapDynamicArray<J>) other;
+            addRange(source, 0, source.size);
+            return;
+        }
+        int length = other.size();
+        ensureCapacity(size + length);
+        for (int i = 0; i < length; i++) {
+            add(other.get(i));
+        }
+    }
+
+    private void checkIndex(long index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        checkOpen();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+    }
+
+    // ~*~ Long-indexed access ~*~
+
+    /**
+     * Returns number of elements in the array, which may exceed Integer.MAX_VALUE.
+     * @return returns number of elements
+     */
+    public long longSize() {
+        checkOpen();
+        return size;
+    }
+
+    /**
+     * Returns the element stored at a given index.
+     * @param index the position
+     * @return returns the element
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public J get(long index) {
+        checkIndex(index);
+        return codec.decode(regionOf(index), offsetOf(index));
+    }
+
+    /**
+     * Updates the element at the given index.
+     * @param index the position of the element
+     * @param value the new value
+     * @return returns the old value at that index
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public J set(long index, J value) {
+        J oldValue = get(index);
+        codec.encode(regionOf(index), offsetOf(index), value);
+        return oldValue;
+    }
+
+    /**
+     * Adds an element at the given index, moving the rest of the elements to the right.
+     * @param index the position to add the element
+     * @param value element to add
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public void add(long index, J value) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        codec.encode(regionOf(index), offsetOf(index), value);
+        setSize(size + 1);
+    }
+
+    /**
+     * Removes the element at the given index, shifting subsequent elements left.
+     * @param index the position of the element to remove
+     * @return returns the removed element
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public J remove(long index) {
+        J removedValue = get(index);
+        move(index + 1, index, size - index - 1);
+        setSize(size - 1);
+        return removedValue;
+    }
+
+    // ~*~ DynamicArrayADT ~*~
+
+    @Override
+    public J get(int index) {
+        return get((long) index);
+    }
+
+    @Override
+    public J set(int index, J value) {
+        return set((long) index, value);
+    }
+
+    /**
+     * Returns number of elements in the array.
+     * @return returns number of elements
+     * @throws ArithmeticException if there are more than Integer.MAX_VALUE; use longSize instead
+     */
+    @Override
+    public int size() {
+        return Math.toIntExact(longSize());
+    }
+
+    @Override
+    public void add(int index, J value) {
+        add((long) index, value);
+    }
+
+    @Override
+    public void add(J value) {
+        checkOpen();
+        ensureCapacity(size + 1);
+        codec.encode(regionOf(size), offsetOf(size), value);
+        setSize(size + 1);
+    }
+
+    @Override
+    public J remove(int index) {
+        return remove((long) index);
+    }
+
+    @Override
+    public OffHeapDynamicArray<J> append(DynamicArrayADT<J> other) {
+        checkOpen();
+        OffHeapDynamicArray<J> result = derive();
+        result.addRange(this, 0, size);
+        result.addAll(other);
+        return result;
+    }
+
+    @Override
+    public OffHeapDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        OffHeapDynamicArray<J> result = derive();
+        result.addRange(this, 0, index);
+        result.addAll(other);
+        result.addRange(this, index, size);
+        return result;
+    }
+
+    @Override
+    public OffHeapDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        OffHeapDynamicArray<J> result = derive();
+        result.addRange(this, fromIndex, toIndex);
+        return result;
+    }
+
+    @Override
+    public OffHeapDynamicArray<J> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        OffHeapDynamicArray<J> result = derive();
+        result.addRange(this, 0, fromIndex);
+        result.addRange(this, toIndex, size);
+        return result;
+    }
+
+    @Override
+    public OffHeapDynamicArray<J> extract(int fromIndex, int toIndex) {
+        OffHeapDynamicArray<J> extracted = sublist(fromIndex, toIndex);
+        move(toIndex, fromIndex, size - toIndex);
+        setSize(size - (toIndex - fromIndex));
+        return extracted;
+    }
+
+    @Override
+    public OffHeapDynamicArray<J> splitPrefix(int index) {
+        if (index < 0 || index > longSize()) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(0, index);
+    }
+
+    @Override
+    public OffHeapDynamicArray<J> splitSuffix(int index) {
+        if (index < 0 || index > longSize()) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(index, size());
+    }
+
+    @Override
+    public String toString() {
+        checkOpen();
+        StringBuilder sb = new StringBuilder("[");
+        for (long i = 0; i < size; i++) {
+            sb.append(get(i));
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,122 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for OffHeapDynamicArray.
+ * Inherits every DynamicArrayTest case, run with regions of only four characters so that
+ * shifts and copies cross region boundaries, then checks persistence and long indexing.
+ */
+public class OffHeapDynamicArrayTest extends DynamicArrayTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<OffHeapDynamicArray<?>> opened = new ArrayList<>();
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        try {
+            return track(OffHeapDynamicArray.open(folder.newFile().toPath(), ElementCodec.chars(), 8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <J> OffHeapDynamicArray<J> track(OffHeapDynamicArray<J> arr) {
+        opened.add(arr);
+        return arr;
+    }
+
+    @After
+    public void closeAll() throws IOException {
+        for (OffHeapDynamicArray<?> arr : opened) {
+            arr.close();
+        }
+    }
+
+    @Test
+    public void testPersistsAcrossReopen() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("ints.bin");
+        try (OffHeapDynamicArray<Integer> arr = OffHeapDynamicArray.open(file, ElementCodec.ints(), 64)) {
+            for (int i = 0; i < 1000; i++) {
+                arr.add(i);
+            }
+            arr.remove(0);
+            arr.set(0, -1);
+            arr.force();
+        }
+        try (OffHeapDynamicArray<Integer> arr = OffHeapDynamicArray.open(file, ElementCodec.ints())) {
+            assertEquals(999, arr.size());
+            assertEquals(Integer.valueOf(-1), arr.get(0));
+            for (int i = 1; i < 999; i++) {
+                assertEquals(Integer.valueOf(i + 1), arr.get(i));
+            }
+            // The region length chosen when the file was created is kept
+            assertEquals(1008, arr.capacity());
+        }
+    }
+
+    @Test
+    public void testRejectsMismatchedFiles() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("longs.bin");
+        OffHeapDynamicArray.open(file, ElementCodec.longs()).close();
+        assertThrows(IOException.class, () -> OffHeapDynamicArray.open(file, ElementCodec.ints()));
+
+        Path junk = folder.newFile().toPath();
+        Files.write(junk, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> OffHeapDynamicArray.open(junk, ElementCodec.ints()));
+    }
+
+    @Test
+    public void testLongIndexes() throws IOException {
+        try (OffHeapDynamicArray<Double> arr = OffHeapDynamicArray.temporary(ElementCodec.doubles())) {
+            for (long i = 0; i < 10; i++) {
+                arr.add(i, i * 0.5);
+            }
+            arr.add(5L, -1.0);
+            assertEquals(11L, arr.longSize());
+            assertEquals(Double.valueOf(-1.0), arr.get(5L));
+            assertEquals(Double.valueOf(-1.0), arr.remove(5L));
+            assertEquals(Double.valueOf(4.5), arr.get(9L));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> arr.get(10L));
+        }
+    }
+
+    @Test
+    public void testLargeShifts() {
+        DynamicArrayADT<Character> arr = newArray(0);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 40000; i++) {
+            char c = (char) ('a' + i % 26);
+            arr.add(c);
+            expected.append(c);
+        }
+        arr.add(3, '!');
+        expected.insert(3, '!');
+        arr.remove(1);
+        expected.deleteCharAt(1);
+        compareToString(arr.extract(100, 39000), expected.substring(100, 39000));
+        expected.delete(100, 39000);
+        compareToString(arr, expected.toString());
+    }
+
+    @Test
+    public void testClosed() throws IOException {
+        OffHeapDynamicArray<Character> arr = OffHeapDynamicArray.temporary(ElementCodec.chars());
+        arr.add('a');
+        arr.close();
+        arr.close();
+        assertThrows(IllegalStateException.class, () -> arr.get(0));
+        assertThrows(IllegalStateException.class, () -> arr.add('b'));
+    }
+}
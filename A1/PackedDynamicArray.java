@@ -0,0 +1,506 @@
+import java.util.Arrays;
+
+/**
+ * A dynamic array of values that fit in a few bits, such as booleans or the constants of a
+ * small enum, packed into a long[] instead of stored as references. Each element is kept as
+ * a code of a fixed power-of-two width, so a boolean takes one bit instead of a 4 or 8 byte
+ * reference and no element ever straddles two words.
+ * <p>
+ * add and remove at an index shift the following bits a whole word at a time, and insert,
+ * delete, extract, append and the splits copy bit ranges word by word, falling back to
+ * System.arraycopy when both ranges start on a word boundary.
+ * @param <J> the type of elements stored in the array
+ */
+public class PackedDynamicArray<J> implements DynamicArrayADT<J> {
+    private static final long[] EMPTY = new long[0];
+
+    private static final Coding<Boolean> BOOLEANS = new Coding<Boolean>() {
+        @Override
+        public int bits() {
+            return 1;
+        }
+
+        @Override
+        public int encode(Boolean value) {
+            return value ? 1 : 0;
+        }
+
+        @Override
+        public Boolean decode(int code) {
+            return code != 0;
+        }
+    };
+
+    /** One enum coding per enum class, so arrays of the same enum share it and copy codes directly. */
+    private static final ClassValue<Coding<?>> ENUMS = new ClassValue<Coding<?>>() {
+        @Override
+        protected Coding<?> computeValue(Class<?> type) {
+            Enum<?>[] constants = (Enum<?>[]) type.getEnumConstants();
+            int bits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(constants.length - 1));
+            return new Coding<Enum<?>>() {
+                @Override
+                public int bits() {
+                    return bits;
+                }
+
+                @Override
+                public int encode(Enum<?> value) {
+                    return value.ordinal();
+                }
+
+                @Override
+                public Enum<?> decode(int code) {
+                    return constants[code];
+                }
+            };
+        }
+    };
+
+    /**
+     * Maps elements to the codes stored for them and back.
+     * @param <J> the type of elements coded
+     */
+    public interface Coding<J> {
+
+        /**
+         * Returns the number of bits a code needs, from 1 to 32.
+         * @return returns the code width
+         */
+        int bits();
+
+        /**
+         * Returns the code for value, between 0 and 2^bits() - 1.
+         * @param value the element
+         * @return returns its code
+         */
+        int encode(J value);
+
+        /**
+         * Returns the element a code stands for.
+         * @param code the code
+         * @return returns the element
+         */
+        J decode(int code);
+    }
+
+    /**
+     * Returns the one-bit coding of Boolean values.
+     * @return returns a Coding for booleans
+     */
+    public static Coding<Boolean> booleans() {
+        return BOOLEANS;
+    }
+
+    /**
+     * Returns the coding of the constants of an enum by their ordinals.
+     * Every call for the same enum class returns the same Coding.
+     * @param type the enum class
+     * @return returns a Coding using as few bits as the enum's constants need
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> Coding<E> enums(Class<E> type) {
+        return (Coding<E>) ENUMS.get(type);
+    }
+
+    private final Coding<J> coding;
+    /** Width of a stored code: coding.bits() rounded up to a power of two. */
+    private final int bits;
+    /** log2 of the number of codes in one word. */
+    private final int perWordShift;
+    private final long codeMask;
+    private final GrowthPolicy growthPolicy;
+    private long[] words;
+    private int size;
+
+    /**
+     * Constructs an empty PackedDynamicArray with the specified initial capacity.
+     * @param initialCapacity the initial capacity of the array, in elements
+     * @param coding how elements are turned into codes
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     * @throws IllegalArgumentException if the coding needs more than 32 bits
+     */
+    public PackedDynamicArray(int initialCapacity, Coding<J> coding) {
+        this(initialCapacity, coding, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructs an empty PackedDynamicArray with the specified initial capacity and growth policy.
+     * @param initialCapacity the initial capacity of the array, in elements
+     * @param coding how elements are turned into codes
+     * @param growthPolicy decides the new capacity whenever the array is full
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     * @throws IllegalArgumentException if the coding needs more than 32 bits
+     */
+    public PackedDynamicArray(int initialCapacity, Coding<J> coding, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new ArrayIndexOutOfBoundsException("Initial capacity cannot be negative.");
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null.");
+        }
+        int width = coding.bits();
+        if (width < 1 || width > Integer.SIZE) {
+            throw new IllegalArgumentException("Codes must be 1 to 32 bits wide.");
+        }
+        this.coding = coding;
+        this.bits = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.perWordShift = Integer.numberOfTrailingZeros(Long.SIZE / bits);
+        this.codeMask = (1L << bits) - 1;
+        this.growthPolicy = growthPolicy;
+        this.words = initialCapacity == 0 ? EMPTY : new long[wordsFor(initialCapacity)];
+    }
+
+    /**
+     * Constructs a PackedDynamicArray of booleans.
+     * @param initialCapacity the initial capacity of the array, in elements
+     * @return returns an empty array storing one bit per element
+     */
+    public static PackedDynamicArray<Boolean> ofBooleans(int initialCapacity) {
+        return new PackedDynamicArray<>(initialCapacity, booleans());
+    }
+
+    /**
+     * Constructs a PackedDynamicArray of the constants of an enum.
+     * @param type the enum class
+     * @param initialCapacity the initial capacity of the array, in elements
+     * @return returns an empty array storing each constant's ordinal
+     */
+    public static <E extends Enum<E>> PackedDynamicArray<E> ofEnum(Class<E> type, int initialCapacity) {
+        return new PackedDynamicArray<>(initialCapacity, enums(type));
+    }
+
+    /**
+     * Creates an array of exactly the given size with the same coding and growth policy.
+     * The caller fills in all of its elements.
+     */
+    private PackedDynamicArray<J> derive(int length) {
+        PackedDynamicArray<J> newArray = new PackedDynamicArray<>(length, coding, growthPolicy);
+        newArray.size = length;
+        return newArray;
+    }
+
+    private int wordsFor(int elements) {
+        return (int) (((long) elements * bits + Long.SIZE - 1) >>> 6);
+    }
+
+    private void grow(int minCapacity) {
+        words = Arrays.copyOf(words, wordsFor(Math.max(minCapacity, growthPolicy.grow(capacity(), minCapacity))));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+    }
+
+    /**
+     * Returns the number of bits used to store each element.
+     * @return returns the stored code width
+     */
+    public int bitsPerElement() {
+        return bits;
+    }
+
+    /**
+     * Returns the number of elements the backing words can hold before they have to grow.
+     * @return returns the capacity in elements
+     */
+    public int capacity() {
+        return (int) Math.min(Integer.MAX_VALUE, (long) words.length << perWordShift);
+    }
+
+    /**
+     * Grows the backing words, if needed, so they can hold at least minCapacity elements.
+     * @param minCapacity the number of elements the array must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing words to the fewest that hold the elements stored.
+     */
+    public void trimToSize() {
+        int needed = wordsFor(size);
+        if (needed < words.length) {
+            words = Arrays.copyOf(words, needed);
+        }
+    }
+
+    // ~*~ Bit ranges ~*~
+
+    /**
+     * Returns the n bits (1 to 64) of a starting at bit position.
+     */
+    private static long readBits(long[] a, long position, int n) {
+        int word = (int) (position >>> 6);
+        int offset = (int) (position & 63);
+        long value = a[word] >>> offset;
+        if (offset + n > Long.SIZE) {
+            value |= a[word + 1] << (Long.SIZE - offset);
+        }
+        return n == Long.SIZE ? value : value & ((1L << n) - 1);
+    }
+
+    /**
+     * Overwrites the n bits (1 to 64) of a starting at bit position with the low bits of value.
+     */
+    private static void writeBits(long[] a, long position, int n, long value) {
+        int word = (int) (position >>> 6);
+        int offset = (int) (position & 63);
+        long mask = n == Long.SIZE ? -1L : (1L << n) - 1;
+        value &= mask;
+        a[word] = (a[word] & ~(mask << offset)) | (value << offset);
+        if (offset + n > Long.SIZE) {
+            long highMask = (1L << (offset + n - Long.SIZE)) - 1;
+            a[word + 1] = (a[word + 1] & ~highMask) | (value >>> (Long.SIZE - offset));
+        }
+    }
+
+    /**
+     * Copies length bits from src at srcPos to dest at destPos, 64 at a time. The ranges may
+     * overlap, as System.arraycopy allows; word-aligned ranges are handed to it directly.
+     */
+    static void copyBits(long[] src, long srcPos, long[] dest, long destPos, long length) {
+        if (length <= 0) {
+            return;
+        }
+        if (src == dest && srcPos == destPos) {
+            return;
+        }
+        if (((srcPos | destPos) & 63) == 0 && (src != dest || destPos < srcPos)) {
+            int whole = (int) (length >>> 6);
+            System.arraycopy(src, (int) (srcPos >>> 6), dest, (int) (destPos >>> 6), whole);
+            int rest = (int) (length & 63);
+            if (rest > 0) {
+                long done = (long) whole << 6;
+                writeBits(dest, destPos + done, rest, readBits(src, srcPos + done, rest));
+            }
+            return;
+        }
+        if (src != dest || destPos < srcPos) {
+            long done = 0;
+            for (; length - done >= Long.SIZE; done += Long.SIZE) {
+                writeBits(dest, destPos + done, Long.SIZE, readBits(src, srcPos + done, Long.SIZE));
+            }
+            if (done < length) {
+                int rest = (int) (length - done);
+                writeBits(dest, destPos + done, rest, readBits(src, srcPos + done, rest));
+            }
+        } else {
+            long remaining = length;
+            for (; remaining >= Long.SIZE; remaining -= Long.SIZE) {
+                long at = remaining - Long.SIZE;
+                writeBits(dest, destPos + at, Long.SIZE, readBits(src, srcPos + at, Long.SIZE));
+            }
+            if (remaining > 0) {
+                int rest = (int) remaining;
+                writeBits(dest, destPos, rest, readBits(src, srcPos, rest));
+            }
+        }
+    }
+
+    /**
+     * Clears the bits of the elements [fromIndex, toIndex), so unused slots always read as 0.
+     */
+    private void clear(int fromIndex, int toIndex) {
+        long position = (long) fromIndex * bits;
+        long end = (long) toIndex * bits;
+        while (position < end) {
+            int n = (int) Math.min(Long.SIZE - (position & 63), end - position);
+            writeBits(words, position, n, 0L);
+            position += n;
+        }
+    }
+
+    /**
+     * Copies the elements [fromIndex, toIndex) of this array into dest starting at destIndex.
+     */
+    private void copyTo(int fromIndex, int toIndex, PackedDynamicArray<J> dest, int destIndex) {
+        copyBits(words, (long) fromIndex * bits, dest.words, (long) destIndex * bits, (long) (toIndex - fromIndex) * bits);
+    }
+
+    /**
+     * Copies all of other into dest starting at destIndex, as codes if it uses the same coding.
+     */
+    private void copyFrom(DynamicArrayADT<J> other, PackedDynamicArray<J> dest, int destIndex) {
+        if (other instanceof PackedDynamicArray && ((PackedDynamicArray<J>) other).coding == coding) {
+            PackedDynamicArray<J> packed = (PackedDynamicArray<J>) other;
+            packed.copyTo(0, packed.size, dest, destIndex);
+            return;
+        }
+        int length = other.size();
+        for (int i = 0; i < length; i++) {
+            dest.putCode(destIndex + i, encode(other.get(i)));
+        }
+    }
+
+    // ~*~ Codes ~*~
+
+    private int encode(J value) {
+        if (value == null) {
+            throw new NullPointerException("Packed arrays cannot store null.");
+        }
+        return coding.encode(value);
+    }
+
+    private void putCode(int index, int code) {
+        int offset = (index & ((1 << perWordShift) - 1)) * bits;
+        int word = index >>> perWordShift;
+        words[word] = (words[word] & ~(codeMask << offset)) | ((code & codeMask) << offset);
+    }
+
+    /**
+     * Returns the code stored at index, without decoding it.
+     * @param index the position
+     * @return returns the code
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public int getCode(int index) {
+        checkIndex(index);
+        int offset = (index & ((1 << perWordShift) - 1)) * bits;
+        return (int) ((words[index >>> perWordShift] >>> offset) & codeMask);
+    }
+
+    /**
+     * Stores a code at index directly.
+     * @param index the position
+     * @param code the new code
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public void setCode(int index, int code) {
+        checkIndex(index);
+        putCode(index, code);
+    }
+
+    // ~*~ DynamicArrayADT ~*~
+
+    @Override
+    public J get(int index) {
+        return coding.decode(getCode(index));
+    }
+
+    @Override
+    public J set(int index, J value) {
+        int code = encode(value);
+        J oldValue = get(index);
+        putCode(index, code);
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, J value) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        int code = encode(value);
+        if (size == capacity()) {
+            grow(size + 1);
+        }
+        copyTo(index, size, this, index + 1);
+        putCode(index, code);
+        size++;
+    }
+
+    @Override
+    public void add(J value) {
+        add(size, value);
+    }
+
+    @Override
+    public J remove(int index) {
+        J removedValue = get(index);
+        copyTo(index + 1, size, this, index);
+        clear(size - 1, size);
+        size--;
+        return removedValue;
+    }
+
+    @Override
+    public PackedDynamicArray<J> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        PackedDynamicArray<J> newArray = derive(size - (toIndex - fromIndex));
+        copyTo(0, fromIndex, newArray, 0);
+        copyTo(toIndex, size, newArray, fromIndex);
+        return newArray;
+    }
+
+    @Override
+    public PackedDynamicArray<J> append(DynamicArrayADT<J> other) {
+        PackedDynamicArray<J> newArray = derive(size + other.size());
+        copyTo(0, size, newArray, 0);
+        copyFrom(other, newArray, size);
+        return newArray;
+    }
+
+    @Override
+    public PackedDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        int otherSize = other.size();
+        PackedDynamicArray<J> newArray = derive(size + otherSize);
+        copyTo(0, index, newArray, 0);
+        copyFrom(other, newArray, index);
+        copyTo(index, size, newArray, index + otherSize);
+        return newArray;
+    }
+
+    @Override
+    public PackedDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        PackedDynamicArray<J> newArray = derive(toIndex - fromIndex);
+        copyTo(fromIndex, toIndex, newArray, 0);
+        return newArray;
+    }
+
+    @Override
+    public PackedDynamicArray<J> extract(int fromIndex, int toIndex) {
+        PackedDynamicArray<J> newArray = sublist(fromIndex, toIndex);
+        copyTo(toIndex, size, this, fromIndex);
+        int newSize = size - (toIndex - fromIndex);
+        clear(newSize, size);
+        size = newSize;
+        return newArray;
+    }
+
+    @Override
+    public PackedDynamicArray<J> splitPrefix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(0, index);
+    }
+
+    @Override
+    public PackedDynamicArray<J> splitSuffix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        return extract(index, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(get(i));
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,170 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the PackedDynamicArray class.
+ * Inherits every DynamicArrayTest case using 16-bit character codes, then checks
+ * packed booleans and enums against a java.util.List.
+ */
+public class PackedDynamicArrayTest extends DynamicArrayTest {
+
+    private static final PackedDynamicArray.Coding<Character> CHARS = new PackedDynamicArray.Coding<Character>() {
+        @Override
+        public int bits() {
+            return 16;
+        }
+
+        @Override
+        public int encode(Character value) {
+            return value;
+        }
+
+        @Override
+        public Character decode(int code) {
+            return (char) code;
+        }
+    };
+
+    private enum Color { RED, GREEN, BLUE, CYAN, MAGENTA }
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        return new PackedDynamicArray<>(initialCapacity, CHARS);
+    }
+
+    // Compare contents against a java.util.List
+    public <J> void compareToList(DynamicArrayADT<J> arr, List<J> expected) {
+        assertEquals(expected.size(), arr.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Mismatch at index " + i, expected.get(i), arr.get(i));
+        }
+    }
+
+    // ~*~ Packing ~*~
+    @Test
+    public void testWidths() {
+        assertEquals(1, PackedDynamicArray.ofBooleans(0).bitsPerElement());
+        assertEquals(4, PackedDynamicArray.ofEnum(Color.class, 0).bitsPerElement());
+        assertEquals(16, new PackedDynamicArray<>(0, CHARS).bitsPerElement());
+        PackedDynamicArray<Boolean> flags = PackedDynamicArray.ofBooleans(1000);
+        assertEquals(1024, flags.capacity());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullIsRejected() {
+        PackedDynamicArray.ofBooleans(1).add(null);
+    }
+
+    @Test
+    public void testRandomBooleanEdits() {
+        Random random = new Random(21);
+        PackedDynamicArray<Boolean> flags = PackedDynamicArray.ofBooleans(0);
+        List<Boolean> expected = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            boolean value = random.nextBoolean();
+            int op = random.nextInt(4);
+            if (op == 0 || expected.isEmpty()) {
+                flags.add(value);
+                expected.add(value);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                flags.add(index, value);
+                expected.add(index, value);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), flags.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, value), flags.set(index, value));
+            }
+        }
+        compareToList(flags, expected);
+    }
+
+    @Test
+    public void testBulkOperationsAtEveryAlignment() {
+        Random random = new Random(64);
+        for (int length = 0; length < 200; length += 13) {
+            PackedDynamicArray<Boolean> a = PackedDynamicArray.ofBooleans(0);
+            List<Boolean> expected = new ArrayList<>();
+            for (int i = 0; i < length; i++) {
+                boolean value = random.nextBoolean();
+                a.add(value);
+                expected.add(value);
+            }
+            PackedDynamicArray<Boolean> b = PackedDynamicArray.ofBooleans(0);
+            List<Boolean> other = new ArrayList<>();
+            for (int i = 0; i < 70; i++) {
+                boolean value = random.nextBoolean();
+                b.add(value);
+                other.add(value);
+            }
+            List<Boolean> appended = new ArrayList<>(expected);
+            appended.addAll(other);
+            compareToList(a.append(b), appended);
+
+            int at = length / 3;
+            List<Boolean> inserted = new ArrayList<>(expected);
+            inserted.addAll(at, other);
+            compareToList(a.insert(at, b), inserted);
+
+            List<Boolean> deleted = new ArrayList<>(appended);
+            deleted.subList(at, at + 70).clear();
+            compareToList(a.append(b).delete(at, at + 70), deleted);
+
+            PackedDynamicArray<Boolean> moved = a.append(b);
+            List<Boolean> extracted = new ArrayList<>(appended.subList(at, at + 65));
+            compareToList(moved.extract(at, at + 65), extracted);
+            appended.subList(at, at + 65).clear();
+            compareToList(moved, appended);
+        }
+    }
+
+    @Test
+    public void testEnums() {
+        PackedDynamicArray<Color> colors = PackedDynamicArray.ofEnum(Color.class, 4);
+        for (Color c : Color.values()) {
+            colors.add(c);
+        }
+        colors.add(0, Color.MAGENTA);
+        assertEquals("[MAGENTA, RED, GREEN, BLUE, CYAN, MAGENTA]", colors.toString());
+        assertEquals(4, colors.getCode(0));
+        colors.setCode(1, Color.BLUE.ordinal());
+        assertEquals(Color.BLUE, colors.get(1));
+        assertEquals("[BLUE, CYAN, MAGENTA]", colors.splitSuffix(3).toString());
+        assertEquals("[MAGENTA, BLUE, GREEN]", colors.toString());
+    }
+
+    @Test
+    public void testEnumArraysCopyCodes() {
+        assertSame(PackedDynamicArray.enums(Color.class), PackedDynamicArray.enums(Color.class));
+        PackedDynamicArray<Color> colors = PackedDynamicArray.ofEnum(Color.class, 2);
+        colors.add(Color.RED);
+        colors.add(Color.CYAN);
+        // Fails if append or insert decodes the other array instead of copying its codes
+        PackedDynamicArray<Color> other = new PackedDynamicArray<Color>(1, PackedDynamicArray.enums(Color.class)) {
+            @Override
+            public Color get(int index) {
+                throw new AssertionError("Decoded element " + index);
+            }
+        };
+        other.add(Color.BLUE);
+        compareToList(colors.append(other), List.of(Color.RED, Color.CYAN, Color.BLUE));
+        compareToList(colors.insert(1, other), List.of(Color.RED, Color.BLUE, Color.CYAN));
+    }
+
+    @Test
+    public void testMixedSources() {
+        PackedDynamicArray<Boolean> flags = PackedDynamicArray.ofBooleans(2);
+        flags.add(true);
+        flags.add(false);
+        DynamicArray<Boolean> boxed = new DynamicArray<>(2);
+        boxed.add(false);
+        boxed.add(true);
+        assertEquals("[true, false, true, false]", flags.insert(1, boxed).toString());
+    }
+}
@@ -0,0 +1,529 @@
+import java.util.Arrays;
+
+/**
+ * An immutable dynamic array. Every update returns a new version and leaves the old one intact.
+ * <p>
+ * Elements are stored in a 32-way trie indexed by the bits of their position, with the last
+ * (up to 32) elements kept in a separate tail array. get and set walk at most log32(n) levels;
+ * add only copies the tail until it fills up. set, add, removing from the end and taking a
+ * prefix copy just the path they change, so they share all other nodes with the version they
+ * came from. Use a Builder to make many changes without paying for a new version after each one.
+ * <p>
+ * Positions are plain bit patterns, so the trie cannot be split or joined in the middle without
+ * moving every later element to a new position. add(int, J), remove, insert and delete
+ * therefore share the prefix before the edit and re-add the whole suffix after it: they cost
+ * O(size - index), like an edit in an ArrayList, and share none of the suffix's nodes.
+ * <p>
+ * Because add and set return new versions, this class cannot implement DynamicArrayADT,
+ * whose mutators return void and the old value.
+ * @param <J> the type of elements stored in the array
+ */
+public final class PersistentDynamicArray<J> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * A trie node. Leaves hold elements; interior nodes hold child nodes.
+     * A node whose edit token belongs to a live Builder may be changed in place by that builder.
+     */
+    private static final class Node {
+        final Object edit;
+        final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        Node(Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(null);
+    private static final PersistentDynamicArray<?> EMPTY =
+            new PersistentDynamicArray<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int count;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentDynamicArray(int count, int shift, Node root, Object[] tail) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty array.
+     * @return returns an array with no elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <J> PersistentDynamicArray<J> empty() {
+        return (PersistentDynamicArray<J>) EMPTY;
+    }
+
+    /**
+     * Returns a persistent array holding the elements of source.
+     * @param source the array to copy
+     * @return returns a new PersistentDynamicArray with the same elements
+     */
+    public static <J> PersistentDynamicArray<J> of(DynamicArrayADT<J> source) {
+        return new Builder<J>().addAll(source).build();
+    }
+
+    /**
+     * Returns an empty builder.
+     * @return returns a new Builder
+     */
+    public static <J> Builder<J> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a builder that starts from this array. This array is not affected by the builder.
+     * @return returns a new Builder holding the elements of this array
+     */
+    public Builder<J> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    // ~*~ Trie algorithms, shared with Builder ~*~
+
+    private static int tailOffset(int count) {
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    private static Object[] leafFor(Node root, int shift, int index) {
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    /**
+     * Returns node itself if the builder owning edit may change it, or else a copy it may change.
+     * A null edit means a persistent update, which always copies.
+     */
+    private static Node editable(Object edit, Node node) {
+        if (edit != null && node.edit == edit) {
+            return node;
+        }
+        return new Node(edit, node.array.clone());
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(edit);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Hangs a full tail leaf under parent, which is at the given level of a trie holding count elements.
+     */
+    private static Node pushTail(Object edit, int level, Node parent, Node tailNode, int count) {
+        int sub = ((count - 1) >>> level) & MASK;
+        Node result = editable(edit, parent);
+        Node insert;
+        if (level == BITS) {
+            insert = tailNode;
+        } else {
+            Node child = (Node) parent.array[sub];
+            insert = child != null
+                    ? pushTail(edit, level - BITS, child, tailNode, count)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+        result.array[sub] = insert;
+        return result;
+    }
+
+    private static Node assoc(Object edit, int level, Node node, int index, Object value) {
+        Node result = editable(edit, node);
+        if (level == 0) {
+            result.array[index & MASK] = value;
+        } else {
+            int sub = (index >>> level) & MASK;
+            result.array[sub] = assoc(edit, level - BITS, (Node) node.array[sub], index, value);
+        }
+        return result;
+    }
+
+    /**
+     * Copies the path to the last leaf of the first last + 1 elements, dropping everything after it.
+     */
+    private static Node trim(int level, Node node, int last) {
+        if (level == 0) {
+            return node;
+        }
+        int sub = (last >>> level) & MASK;
+        Object[] array = new Object[WIDTH];
+        System.arraycopy(node.array, 0, array, 0, sub);
+        array[sub] = trim(level - BITS, (Node) node.array[sub], last);
+        return new Node(null, array);
+    }
+
+    // ~*~ Queries ~*~
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+    }
+
+    private Object[] leafFor(int index) {
+        return index >= tailOffset(count) ? tail : leafFor(root, shift, index);
+    }
+
+    /**
+     * Returns the element stored at a given index.
+     * @param index the position
+     * @return returns the element
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public J get(int index) {
+        checkIndex(index);
+        return (J) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns number of elements in the array.
+     * @return returns number of elements
+     */
+    public int size() {
+        return count;
+    }
+
+    // ~*~ Updates, each returning a new version ~*~
+
+    /**
+     * Returns a version with the element at index replaced.
+     * @param index the position of the element
+     * @param value the new value
+     * @return returns the new version
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public PersistentDynamicArray<J> set(int index, J value) {
+        checkIndex(index);
+        if (index >= tailOffset(count)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentDynamicArray<>(count, shift, root, newTail);
+        }
+        return new PersistentDynamicArray<>(count, shift, assoc(null, shift, root, index, value), tail);
+    }
+
+    /**
+     * Returns a version with value added at the end.
+     * @param value element to add
+     * @return returns the new version
+     */
+    public PersistentDynamicArray<J> add(J value) {
+        if (count - tailOffset(count) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentDynamicArray<>(count + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        int newShift = shift;
+        Node newRoot;
+        if ((count >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, shift, root, tailNode, count);
+        }
+        return new PersistentDynamicArray<>(count + 1, newShift, newRoot, new Object[] {value});
+    }
+
+    /**
+     * Returns a version with value added at index, moving later elements to the right.
+     * Elements after index are re-added, so this costs O(size - index).
+     * @param index the position to add the element
+     * @param value element to add
+     * @return returns the new version
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public PersistentDynamicArray<J> add(int index, J value) {
+        if (index < 0 || index > count) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return take(index).toBuilder().add(value).addRange(this, index, count).build();
+    }
+
+    /**
+     * Returns a version without the element at index.
+     * Elements after index are re-added, so this costs O(size - index).
+     * @param index the position of the element to remove
+     * @return returns the new version
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public PersistentDynamicArray<J> remove(int index) {
+        checkIndex(index);
+        return delete(index, index + 1);
+    }
+
+    /**
+     * Returns a version with other added at the end. Every node of this version is shared.
+     * @param other the array to append
+     * @return returns the new version
+     */
+    public PersistentDynamicArray<J> append(DynamicArrayADT<J> other) {
+        return toBuilder().addAll(other).build();
+    }
+
+    /**
+     * Returns a version with other added at the end. Every node of this version is shared.
+     * @param other the array to append
+     * @return returns the new version
+     */
+    public PersistentDynamicArray<J> append(PersistentDynamicArray<J> other) {
+        return toBuilder().addRange(other, 0, other.count).build();
+    }
+
+    /**
+     * Returns a version with all of other inserted at index.
+     * The prefix before index is shared; the rest is re-added, so this costs O(size - index + other.size()).
+     * @param index the position to insert other
+     * @param other the array to insert
+     * @return returns the new version
+     * @throws ArrayIndexOutOfBoundsException if index is invalid
+     */
+    public PersistentDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        if (index < 0 || index > count) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return take(index).toBuilder().addAll(other).addRange(this, index, count).build();
+    }
+
+    /**
+     * Returns a version with the range [fromIndex, toIndex) removed.
+     * The prefix before fromIndex is shared; the rest is re-added, so this costs O(size - toIndex).
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @return returns the new version
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public PersistentDynamicArray<J> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (toIndex == count) {
+            return take(fromIndex);
+        }
+        return take(fromIndex).toBuilder().addRange(this, toIndex, count).build();
+    }
+
+    /**
+     * Returns the range [fromIndex, toIndex) as a new version.
+     * A prefix (fromIndex 0) shares every full leaf with this version; any other range is
+     * re-added, so it costs O(toIndex - fromIndex).
+     * @param fromIndex, inclusive start
+     * @param toIndex, exclusive end
+     * @return returns the new version
+     * @throws ArrayIndexOutOfBoundsException if either index is invalid
+     */
+    public PersistentDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == 0) {
+            return take(toIndex);
+        }
+        return new Builder<J>().addRange(this, fromIndex, toIndex).build();
+    }
+
+    /**
+     * Returns the first n elements, sharing every full leaf and copying only the right edge.
+     */
+    private PersistentDynamicArray<J> take(int n) {
+        if (n == count) {
+            return this;
+        }
+        if (n == 0) {
+            return empty();
+        }
+        int newTailOffset = tailOffset(n);
+        Object[] newTail = Arrays.copyOfRange(leafFor(newTailOffset), 0, n - newTailOffset);
+        if (newTailOffset == 0) {
+            return new PersistentDynamicArray<>(n, BITS, EMPTY_NODE, newTail);
+        }
+        Node newRoot = trim(shift, root, newTailOffset - 1);
+        int newShift = shift;
+        while (newShift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentDynamicArray<>(n, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns a mutable DynamicArray holding a copy of the elements.
+     * @return returns the copy
+     */
+    public DynamicArray<J> toDynamicArray() {
+        DynamicArray<J> result = new DynamicArray<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            sb.append(leafFor(i)[i & MASK]);
+            if (i < count - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * A mutable builder for PersistentDynamicArray. Nodes it creates are tagged with its
+     * edit token and changed in place, so a batch of adds and sets allocates about as much
+     * as a plain array would. build() hands the nodes over to an immutable version and takes
+     * a fresh token, so the builder can keep going without affecting what it built.
+     * A builder is not thread-safe.
+     * @param <J> the type of elements stored in the array
+     */
+    public static final class Builder<J> {
+        private Object edit = new Object();
+        private int count;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder() {
+            this(empty());
+        }
+
+        private Builder(PersistentDynamicArray<J> from) {
+            count = from.count;
+            shift = from.shift;
+            root = from.root;
+            tail = Arrays.copyOf(from.tail, WIDTH);
+        }
+
+        /**
+         * Returns the element stored at a given index.
+         * @param index the position
+         * @return returns the element
+         * @throws ArrayIndexOutOfBoundsException if index is invalid
+         */
+        @SuppressWarnings("unchecked")
+        public J get(int index) {
+            if (index < 0 || index >= count) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            Object[] leaf = index >= tailOffset(count) ? tail : leafFor(root, shift, index);
+            return (J) leaf[index & MASK];
+        }
+
+        /**
+         * Returns number of elements added so far.
+         * @return returns number of elements
+         */
+        public int size() {
+            return count;
+        }
+
+        /**
+         * Replaces the element at index in place.
+         * @param index the position of the element
+         * @param value the new value
+         * @return returns this builder
+         * @throws ArrayIndexOutOfBoundsException if index is invalid
+         */
+        public Builder<J> set(int index, J value) {
+            if (index < 0 || index >= count) {
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+            }
+            if (index >= tailOffset(count)) {
+                tail[index & MASK] = value;
+            } else {
+                root = assoc(edit, shift, root, index, value);
+            }
+            return this;
+        }
+
+        /**
+         * Adds an element to the end.
+         * @param value element to add
+         * @return returns this builder
+         */
+        public Builder<J> add(J value) {
+            if (count - tailOffset(count) < WIDTH) {
+                tail[count & MASK] = value;
+                count++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = value;
+            if ((count >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, shift, root, tailNode, count);
+            }
+            count++;
+            return this;
+        }
+
+        /**
+         * Adds every element of source to the end.
+         * @param source the array whose elements are added
+         * @return returns this builder
+         */
+        public Builder<J> addAll(DynamicArrayADT<J> source) {
+            int length = source.size();
+            for (int i = 0; i < length; i++) {
+                add(source.get(i));
+            }
+            return this;
+        }
+
+        /**
+         * Adds source[fromIndex, toIndex) to the end, reading it one leaf at a time.
+         */
+        @SuppressWarnings("unchecked")
+        private Builder<J> addRange(PersistentDynamicArray<J> source, int fromIndex, int toIndex) {
+            for (int i = fromIndex; i < toIndex; ) {
+                Object[] leaf = source.leafFor(i);
+                int end = Math.min(toIndex, (i | MASK) + 1);
+                for (; i < end; i++) {
+                    add((J) leaf[i & MASK]);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Returns an immutable array of the elements added so far.
+         * The builder stays usable; later changes do not affect the returned array.
+         * @return returns the new PersistentDynamicArray
+         */
+        public PersistentDynamicArray<J> build() {
+            Object[] trimmedTail = Arrays.copyOf(tail, count - tailOffset(count));
+            PersistentDynamicArray<J> result = new PersistentDynamicArray<>(count, shift, root, trimmedTail);
+            edit = new Object();
+            return result;
+        }
+    }
+}
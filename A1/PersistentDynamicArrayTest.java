@@ -0,0 +1,209 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for PersistentDynamicArray and its Builder.
+ */
+public class PersistentDynamicArrayTest {
+
+    // Helper: builds a persistent array holding 0 .. n-1 one add at a time
+    public PersistentDynamicArray<Integer> range(int n) {
+        PersistentDynamicArray<Integer> arr = PersistentDynamicArray.empty();
+        for (int i = 0; i < n; i++) {
+            arr = arr.add(i);
+        }
+        return arr;
+    }
+
+    // Compare contents against 0 .. n-1
+    public void compareToRange(PersistentDynamicArray<Integer> arr, int n) {
+        assertEquals(n, arr.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals("Mismatch at index " + i, Integer.valueOf(i), arr.get(i));
+        }
+    }
+
+    public void compareToList(List<Integer> expected, PersistentDynamicArray<Integer> arr) {
+        assertEquals(expected.size(), arr.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Mismatch at index " + i, expected.get(i), arr.get(i));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        PersistentDynamicArray<Integer> arr = PersistentDynamicArray.empty();
+        assertEquals(0, arr.size());
+        assertEquals("[]", arr.toString());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> arr.get(0));
+    }
+
+    @Test
+    public void testAddAcrossLevels() {
+        // 32 * 32 + 32 fills the first two levels and the tail; the rest needs a third level
+        for (int n : new int[] {1, 32, 33, 1056, 1057, 40000}) {
+            compareToRange(range(n), n);
+        }
+    }
+
+    @Test
+    public void testOldVersionsUnchanged() {
+        PersistentDynamicArray<Integer> v1 = range(100);
+        PersistentDynamicArray<Integer> v2 = v1.set(5, -5);
+        PersistentDynamicArray<Integer> v3 = v2.set(99, -99);
+        PersistentDynamicArray<Integer> v4 = v3.add(100);
+
+        compareToRange(v1, 100);
+        assertEquals(Integer.valueOf(-5), v2.get(5));
+        assertEquals(Integer.valueOf(99), v2.get(99));
+        assertEquals(Integer.valueOf(-99), v3.get(99));
+        assertEquals(100, v3.size());
+        assertEquals(101, v4.size());
+        assertEquals(Integer.valueOf(100), v4.get(100));
+    }
+
+    @Test
+    public void testAddToSharedVersion() {
+        // Two versions grown from the same parent must not see each other's elements
+        PersistentDynamicArray<Integer> base = range(64);
+        PersistentDynamicArray<Integer> a = base.add(1000);
+        PersistentDynamicArray<Integer> b = base.add(2000);
+        assertEquals(Integer.valueOf(1000), a.get(64));
+        assertEquals(Integer.valueOf(2000), b.get(64));
+        compareToRange(base, 64);
+    }
+
+    @Test
+    public void testDeleteAndSublist() {
+        PersistentDynamicArray<Integer> arr = range(2000);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            expected.add(i);
+        }
+
+        compareToRange(arr.delete(1500, 2000), 1500);
+        compareToRange(arr.sublist(0, 1025), 1025);
+        compareToRange(arr.sublist(0, 0), 0);
+
+        List<Integer> deleted = new ArrayList<>(expected);
+        deleted.subList(10, 1990).clear();
+        compareToList(deleted, arr.delete(10, 1990));
+        compareToList(expected.subList(700, 1300), arr.sublist(700, 1300));
+
+        // A prefix that crosses a level boundary can still grow correctly
+        PersistentDynamicArray<Integer> prefix = arr.sublist(0, 40);
+        for (int i = 40; i < 1100; i++) {
+            prefix = prefix.add(i);
+        }
+        compareToRange(prefix, 1100);
+        compareToRange(arr, 2000);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> arr.delete(5, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> arr.sublist(0, 2001));
+    }
+
+    @Test
+    public void testInsertRemoveAppend() {
+        PersistentDynamicArray<Integer> arr = range(100);
+        DynamicArray<Integer> other = new DynamicArray<>(3);
+        other.add(-1);
+        other.add(-2);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+
+        List<Integer> inserted = new ArrayList<>(expected);
+        inserted.addAll(50, List.of(-1, -2));
+        compareToList(inserted, arr.insert(50, other));
+
+        List<Integer> added = new ArrayList<>(expected);
+        added.add(0, -7);
+        compareToList(added, arr.add(0, -7));
+
+        List<Integer> removed = new ArrayList<>(expected);
+        removed.remove(33);
+        compareToList(removed, arr.remove(33));
+
+        List<Integer> appended = new ArrayList<>(expected);
+        appended.addAll(List.of(-1, -2));
+        compareToList(appended, arr.append(other));
+        appended = new ArrayList<>(expected);
+        appended.addAll(expected);
+        compareToList(appended, arr.append(arr));
+
+        compareToRange(arr, 100);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> arr.remove(100));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> arr.add(101, 0));
+    }
+
+    @Test
+    public void testBuilder() {
+        PersistentDynamicArray.Builder<Integer> builder = PersistentDynamicArray.builder();
+        for (int i = 0; i < 5000; i++) {
+            builder.add(i);
+        }
+        PersistentDynamicArray<Integer> first = builder.build();
+        compareToRange(first, 5000);
+
+        // The builder keeps working after build without touching what it built
+        builder.set(10, -10).set(4999, -4999).add(5000);
+        PersistentDynamicArray<Integer> second = builder.build();
+        compareToRange(first, 5000);
+        assertEquals(Integer.valueOf(-10), second.get(10));
+        assertEquals(Integer.valueOf(-4999), second.get(4999));
+        assertEquals(5001, second.size());
+
+        // A builder started from a version leaves that version alone
+        PersistentDynamicArray.Builder<Integer> fromFirst = first.toBuilder();
+        fromFirst.set(0, -1).add(-2);
+        assertEquals(Integer.valueOf(-1), fromFirst.get(0));
+        assertEquals(5001, fromFirst.size());
+        compareToRange(first, 5000);
+    }
+
+    @Test
+    public void testOfAndToDynamicArray() {
+        DynamicArray<Integer> source = new DynamicArray<>(4);
+        for (int i = 0; i < 70; i++) {
+            source.add(i);
+        }
+        PersistentDynamicArray<Integer> arr = PersistentDynamicArray.of(source);
+        compareToRange(arr, 70);
+        assertEquals(source.toString(), arr.toString());
+        assertEquals(source.toString(), arr.toDynamicArray().toString());
+    }
+
+    @Test
+    public void testRandomAgainstArrayList() {
+        Random random = new Random(9);
+        PersistentDynamicArray<Integer> arr = PersistentDynamicArray.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                arr = arr.add(step);
+                expected.add(step);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                arr = arr.set(index, -step);
+                expected.set(index, -step);
+            } else if (op < 9) {
+                int from = random.nextInt(expected.size());
+                int to = Math.min(expected.size(), from + random.nextInt(40));
+                arr = arr.delete(from, to);
+                expected.subList(from, to).clear();
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                arr = arr.add(index, step);
+                expected.add(index, step);
+            }
+        }
+        compareToList(expected, arr);
+    }
+}
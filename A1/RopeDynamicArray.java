@@ -0,0 +1,365 @@
+/**
+ * A dynamic array stored as a rope: a height-balanced binary tree whose leaves hold
+ * small chunks of elements. Nodes are never changed after they are built, so arrays
+ * returned by append, insert, delete, sublist and the splits share every untouched
+ * node with this one. Those operations, like get, set, add and remove, run in O(log n).
+ * @param <J> the type of elements stored in the array
+ */
+public class RopeDynamicArray<J> implements DynamicArrayADT<J> {
+
+    /**
+     * Most elements held by one leaf.
+     */
+    static final int LEAF_CAPACITY = 64;
+
+    private static final Node EMPTY = new Node(new Object[0]);
+
+    /**
+     * An immutable rope node: either a leaf holding elements, or a branch with two children.
+     */
+    private static final class Node {
+        final Object[] items;
+        final Node left;
+        final Node right;
+        final int size;
+        final int height;
+
+        Node(Object[] items) {
+            this.items = items;
+            this.left = null;
+            this.right = null;
+            this.size = items.length;
+            this.height = 0;
+        }
+
+        Node(Node left, Node right) {
+            this.items = null;
+            this.left = left;
+            this.right = right;
+            this.size = left.size + right.size;
+            this.height = 1 + Math.max(left.height, right.height);
+        }
+
+        boolean isLeaf() {
+            return items != null;
+        }
+    }
+
+    private Node root;
+
+    /**
+     * Constructs an empty RopeDynamicArray.
+     * The capacity is only checked for consistency with the other arrays; a rope grows one leaf at a time.
+     * @param initialCapacity the initial capacity of the array
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public RopeDynamicArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new ArrayIndexOutOfBoundsException("Initial capacity cannot be negative.");
+        }
+        root = EMPTY;
+    }
+
+    private RopeDynamicArray(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the height of the tree, for checking that it stays balanced.
+     * @return returns the number of branch levels above the leaves
+     */
+    int height() {
+        return root.height;
+    }
+
+    // ~*~ Tree algorithms ~*~
+
+    /**
+     * Builds a perfectly balanced tree over items[from, to).
+     */
+    private static Node build(Object[] items, int from, int to) {
+        int length = to - from;
+        if (length <= LEAF_CAPACITY) {
+            Object[] chunk = new Object[length];
+            System.arraycopy(items, from, chunk, 0, length);
+            return new Node(chunk);
+        }
+        int mid = from + length / 2;
+        return new Node(build(items, from, mid), build(items, mid, to));
+    }
+
+    /**
+     * Returns the tree holding the elements of left followed by those of right.
+     * Small neighbouring leaves are merged so that leaves stay reasonably full.
+     */
+    private static Node concat(Node left, Node right) {
+        if (left.size == 0) {
+            return right;
+        }
+        if (right.size == 0) {
+            return left;
+        }
+        if (left.isLeaf() && right.isLeaf() && left.size + right.size <= LEAF_CAPACITY) {
+            Object[] merged = new Object[left.size + right.size];
+            System.arraycopy(left.items, 0, merged, 0, left.size);
+            System.arraycopy(right.items, 0, merged, left.size, right.size);
+            return new Node(merged);
+        }
+        if (left.height > right.height + 1) {
+            return balance(left.left, concat(left.right, right));
+        }
+        if (right.height > left.height + 1) {
+            return balance(concat(left, right.left), right.right);
+        }
+        return new Node(left, right);
+    }
+
+    /**
+     * Joins two subtrees whose heights differ by at most two, rotating if needed.
+     */
+    private static Node balance(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            if (left.left.height >= left.right.height) {
+                return new Node(left.left, new Node(left.right, right));
+            }
+            Node middle = left.right;
+            return new Node(new Node(left.left, middle.left), new Node(middle.right, right));
+        }
+        if (right.height > left.height + 1) {
+            if (right.right.height >= right.left.height) {
+                return new Node(new Node(left, right.left), right.right);
+            }
+            Node middle = right.left;
+            return new Node(new Node(left, middle.left), new Node(middle.right, right.right));
+        }
+        return new Node(left, right);
+    }
+
+    /**
+     * Splits a tree into the first index elements and the rest.
+     */
+    private static Node[] split(Node node, int index) {
+        if (index == 0) {
+            return new Node[] {EMPTY, node};
+        }
+        if (index == node.size) {
+            return new Node[] {node, EMPTY};
+        }
+        if (node.isLeaf()) {
+            return new Node[] {leaf(node.items, 0, index), leaf(node.items, index, node.size)};
+        }
+        int leftSize = node.left.size;
+        if (index < leftSize) {
+            Node[] parts = split(node.left, index);
+            return new Node[] {parts[0], concat(parts[1], node.right)};
+        }
+        if (index > leftSize) {
+            Node[] parts = split(node.right, index - leftSize);
+            return new Node[] {concat(node.left, parts[0]), parts[1]};
+        }
+        return new Node[] {node.left, node.right};
+    }
+
+    private static Node leaf(Object[] items, int from, int to) {
+        Object[] chunk = new Object[to - from];
+        System.arraycopy(items, from, chunk, 0, to - from);
+        return new Node(chunk);
+    }
+
+    private static Node setAt(Node node, int index, Object value) {
+        if (node.isLeaf()) {
+            Object[] chunk = node.items.clone();
+            chunk[index] = value;
+            return new Node(chunk);
+        }
+        if (index < node.left.size) {
+            return new Node(setAt(node.left, index, value), node.right);
+        }
+        return new Node(node.left, setAt(node.right, index - node.left.size, value));
+    }
+
+    private static Node insertAt(Node node, int index, Object value) {
+        if (node.isLeaf()) {
+            Object[] chunk = new Object[node.size + 1];
+            System.arraycopy(node.items, 0, chunk, 0, index);
+            chunk[index] = value;
+            System.arraycopy(node.items, index, chunk, index + 1, node.size - index);
+            if (chunk.length <= LEAF_CAPACITY) {
+                return new Node(chunk);
+            }
+            int half = chunk.length / 2;
+            return new Node(leaf(chunk, 0, half), leaf(chunk, half, chunk.length));
+        }
+        if (index <= node.left.size) {
+            return balance(insertAt(node.left, index, value), node.right);
+        }
+        return balance(node.left, insertAt(node.right, index - node.left.size, value));
+    }
+
+    private static Node removeAt(Node node, int index) {
+        if (node.isLeaf()) {
+            Object[] chunk = new Object[node.size - 1];
+            System.arraycopy(node.items, 0, chunk, 0, index);
+            System.arraycopy(node.items, index + 1, chunk, index, node.size - index - 1);
+            return new Node(chunk);
+        }
+        if (index < node.left.size) {
+            return concat(removeAt(node.left, index), node.right);
+        }
+        return concat(node.left, removeAt(node.right, index - node.left.size));
+    }
+
+    /**
+     * Copies the elements of a tree into dest, one leaf at a time.
+     */
+    private static int copyOut(Node node, Object[] dest, int destPos) {
+        if (node.isLeaf()) {
+            System.arraycopy(node.items, 0, dest, destPos, node.size);
+            return destPos + node.size;
+        }
+        return copyOut(node.right, dest, copyOut(node.left, dest, destPos));
+    }
+
+    /**
+     * Returns a tree holding the elements of any DynamicArrayADT, sharing it if it is a rope.
+     */
+    private static <J> Node treeOf(DynamicArrayADT<J> other) {
+        if (other instanceof RopeDynamicArray) {
+            return ((RopeDynamicArray<J>) other).root;
+        }
+        Object[] items = new Object[other.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = other.get(i);
+        }
+        return build(items, 0, items.length);
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+    }
+
+    // ~*~ DynamicArrayADT ~*~
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J get(int index) {
+        if (index < 0 || index >= root.size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        Node node = root;
+        while (!node.isLeaf()) {
+            if (index < node.left.size) {
+                node = node.left;
+            } else {
+                index -= node.left.size;
+                node = node.right;
+            }
+        }
+        return (J) node.items[index];
+    }
+
+    @Override
+    public J set(int index, J value) {
+        J oldValue = get(index);
+        root = setAt(root, index, value);
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, J value) {
+        if (index < 0 || index > root.size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        root = insertAt(root, index, value);
+    }
+
+    @Override
+    public void add(J value) {
+        root = insertAt(root, root.size, value);
+    }
+
+    @Override
+    public J remove(int index) {
+        J removedValue = get(index);
+        root = removeAt(root, index);
+        return removedValue;
+    }
+
+    @Override
+    public RopeDynamicArray<J> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        Node[] head = split(root, fromIndex);
+        Node[] tail = split(head[1], toIndex - fromIndex);
+        return new RopeDynamicArray<>(concat(head[0], tail[1]));
+    }
+
+    @Override
+    public RopeDynamicArray<J> append(DynamicArrayADT<J> other) {
+        return new RopeDynamicArray<>(concat(root, treeOf(other)));
+    }
+
+    @Override
+    public RopeDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        if (index < 0 || index > root.size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        Node[] parts = split(root, index);
+        return new RopeDynamicArray<>(concat(concat(parts[0], treeOf(other)), parts[1]));
+    }
+
+    @Override
+    public RopeDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        Node[] head = split(root, fromIndex);
+        return new RopeDynamicArray<>(split(head[1], toIndex - fromIndex)[0]);
+    }
+
+    @Override
+    public RopeDynamicArray<J> extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        Node[] head = split(root, fromIndex);
+        Node[] tail = split(head[1], toIndex - fromIndex);
+        root = concat(head[0], tail[1]);
+        return new RopeDynamicArray<>(tail[0]);
+    }
+
+    @Override
+    public RopeDynamicArray<J> splitPrefix(int index) {
+        if (index < 0 || index > root.size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        Node[] parts = split(root, index);
+        root = parts[1];
+        return new RopeDynamicArray<>(parts[0]);
+    }
+
+    @Override
+    public RopeDynamicArray<J> splitSuffix(int index) {
+        if (index < 0 || index > root.size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        Node[] parts = split(root, index);
+        root = parts[0];
+        return new RopeDynamicArray<>(parts[1]);
+    }
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    @Override
+    public String toString() {
+        Object[] items = new Object[root.size];
+        copyOut(root, items, 0);
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < items.length; i++) {
+            sb.append(items[i]);
+            if (i < items.length - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,126 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the RopeDynamicArray class.
+ * Inherits every DynamicArrayTest case, then checks large edits and balance.
+ */
+public class RopeDynamicArrayTest extends DynamicArrayTest {
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        return new RopeDynamicArray<>(initialCapacity);
+    }
+
+    // Helper: builds a rope holding from .. to-1
+    public RopeDynamicArray<Integer> range(int from, int to) {
+        RopeDynamicArray<Integer> result = new RopeDynamicArray<>(0);
+        for (int i = from; i < to; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    // Compare contents against a java.util.List
+    public void compareToList(DynamicArrayADT<Integer> arr, List<Integer> expected) {
+        assertEquals(expected.size(), arr.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Mismatch at index " + i, expected.get(i), arr.get(i));
+        }
+    }
+
+    // Checks that the height is within the AVL bound for the number of leaves
+    public void assertBalanced(RopeDynamicArray<Integer> arr) {
+        int minLeaves = Math.max(1, arr.size() / RopeDynamicArray.LEAF_CAPACITY);
+        double bound = 1.45 * (Math.log(2 * minLeaves + 2) / Math.log(2)) + 2;
+        assertTrue("Height " + arr.height() + " for size " + arr.size(), arr.height() <= bound);
+    }
+
+    @Test
+    public void testSequentialAddsStayBalanced() {
+        RopeDynamicArray<Integer> arr = range(0, 100000);
+        assertBalanced(arr);
+        assertEquals(Integer.valueOf(54321), arr.get(54321));
+    }
+
+    @Test
+    public void testRepeatedConcatAndSplit() {
+        RopeDynamicArray<Integer> arr = range(0, 10);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add(i);
+        }
+        for (int round = 0; round < 15; round++) {
+            arr = arr.append(arr);
+            List<Integer> doubled = new ArrayList<>(expected);
+            doubled.addAll(expected);
+            expected = doubled;
+        }
+        assertEquals(327680, arr.size());
+        assertBalanced(arr);
+
+        RopeDynamicArray<Integer> prefix = arr.splitPrefix(100003);
+        assertBalanced(prefix);
+        assertBalanced(arr);
+        compareToList(prefix.sublist(99990, 100003), expected.subList(99990, 100003));
+        compareToList(arr.sublist(0, 20), expected.subList(100003, 100023));
+    }
+
+    @Test
+    public void testOperationsShareWithoutChangingOriginal() {
+        RopeDynamicArray<Integer> original = range(0, 1000);
+        RopeDynamicArray<Integer> inserted = original.insert(500, range(-3, 0));
+        RopeDynamicArray<Integer> deleted = original.delete(100, 900);
+        inserted.set(0, 42);
+        deleted.add(0, 7);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), original.get(i));
+        }
+        assertEquals(Integer.valueOf(-3), inserted.get(500));
+        assertEquals(Integer.valueOf(500), inserted.get(503));
+        assertEquals(Integer.valueOf(42), inserted.get(0));
+        assertEquals(201, deleted.size());
+        assertEquals(Integer.valueOf(900), deleted.get(101));
+    }
+
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(7);
+        RopeDynamicArray<Integer> arr = new RopeDynamicArray<>(0);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            int op = random.nextInt(7);
+            if (op <= 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                arr.add(index, step);
+                expected.add(index, step);
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), arr.remove(index));
+            } else if (op == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -step), arr.set(index, -step));
+            } else if (op == 5) {
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(expected.size() - from + 1);
+                List<Integer> range = expected.subList(from, to);
+                compareToList(arr.extract(from, to), new ArrayList<>(range));
+                range.clear();
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                int count = random.nextInt(200);
+                arr = arr.insert(index, range(0, count));
+                for (int i = 0; i < count; i++) {
+                    expected.add(index + i, i);
+                }
+            }
+            assertBalanced(arr);
+        }
+        compareToList(arr, expected);
+    }
+}
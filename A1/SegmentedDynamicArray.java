@@ -0,0 +1,409 @@
+import java.util.Arrays;
+
+/**
+ * A dynamic array stored as fixed-size chunks listed in a directory, so it never copies its
+ * elements to grow: running out of room only allocates one more chunk, and the directory
+ * that grows with it holds one reference per chunk. That keeps the pause and the memory
+ * spike of a growing DynamicArray away from very large arrays.
+ * <p>
+ * Elements start offset slots into the first chunk, and get and set find a slot with one
+ * shift and one mask. add and remove at an index move whichever side of it is shorter, so
+ * both ends work like a deque. splitPrefix and splitSuffix hand whole chunks to the new
+ * array by reference and copy at most the one chunk the split falls inside.
+ * @param <J> the type of elements stored in the array
+ */
+public class SegmentedDynamicArray<J> implements DynamicArrayADT<J> {
+    private static final int DEFAULT_CHUNK_BITS = 12;
+
+    private final int chunkBits;
+    private final int chunkSize;
+    private final int chunkMask;
+    /** chunks[0, chunkCount) are allocated; later entries are null. */
+    private Object[][] chunks;
+    private int chunkCount;
+    /** Position of element 0 in chunks[0], from 0 to chunkSize - 1. */
+    private int offset;
+    private int size;
+
+    /**
+     * Constructs an empty SegmentedDynamicArray with chunks of 4096 elements.
+     * @param initialCapacity the number of elements to allocate chunks for up front
+     * @throws ArrayIndexOutOfBoundsException if initialCapacity is negative
+     */
+    public SegmentedDynamicArray(int initialCapacity) {
+        this(initialCapacity, DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Constructs an empty SegmentedDynamicArray with chunks of 2^chunkBits elements.
+     * Small chunks let tests cross chunk boundaries with a handful of elements.
+     */
+    SegmentedDynamicArray(int initialCapacity, int chunkBits) {
+        if (initialCapacity < 0) {
+            throw new ArrayIndexOutOfBoundsException("Initial capacity cannot be negative.");
+        }
+        this.chunkBits = chunkBits;
+        this.chunkSize = 1 << chunkBits;
+        this.chunkMask = chunkSize - 1;
+        this.chunks = new Object[Math.max(1, (initialCapacity + chunkMask) >>> chunkBits)][];
+        ensureChunks(initialCapacity);
+    }
+
+    private SegmentedDynamicArray<J> derive(int capacity) {
+        return new SegmentedDynamicArray<>(capacity, chunkBits);
+    }
+
+    // ~*~ Chunks ~*~
+
+    /**
+     * Allocates chunks until slots up to physical position end (exclusive) exist.
+     */
+    private void ensureChunks(int end) {
+        int needed = (end + chunkMask) >>> chunkBits;
+        if (needed > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(needed, chunks.length * 2));
+        }
+        while (chunkCount < needed) {
+            chunks[chunkCount++] = new Object[chunkSize];
+        }
+    }
+
+    /**
+     * Puts a new chunk in front of the others, moving element 0 one chunk further in.
+     */
+    private void prependChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        System.arraycopy(chunks, 0, chunks, 1, chunkCount);
+        chunks[0] = new Object[chunkSize];
+        chunkCount++;
+        offset += chunkSize;
+    }
+
+    /**
+     * Drops leading chunks that no longer hold elements, and all but one spare trailing chunk.
+     */
+    private void releaseChunks() {
+        int leading = Math.min(offset >>> chunkBits, chunkCount);
+        if (leading > 0) {
+            System.arraycopy(chunks, leading, chunks, 0, chunkCount - leading);
+            Arrays.fill(chunks, chunkCount - leading, chunkCount, null);
+            chunkCount -= leading;
+            offset -= leading << chunkBits;
+        }
+        int used = (offset + size + chunkMask) >>> chunkBits;
+        if (chunkCount > used + 1) {
+            Arrays.fill(chunks, used + 1, chunkCount, null);
+            chunkCount = used + 1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private J slot(int index) {
+        int p = offset + index;
+        return (J) chunks[p >>> chunkBits][p & chunkMask];
+    }
+
+    private void put(int index, Object value) {
+        int p = offset + index;
+        chunks[p >>> chunkBits][p & chunkMask] = value;
+    }
+
+    /**
+     * Moves length elements from srcIndex to destIndex. The ranges may overlap.
+     */
+    private void move(int srcIndex, int destIndex, int length) {
+        if (length <= 0 || srcIndex == destIndex) {
+            return;
+        }
+        if (destIndex < srcIndex) {
+            for (int done = 0; done < length; ) {
+                int sp = offset + srcIndex + done;
+                int dp = offset + destIndex + done;
+                int n = Math.min(length - done, Math.min(chunkSize - (sp & chunkMask), chunkSize - (dp & chunkMask)));
+                System.arraycopy(chunks[sp >>> chunkBits], sp & chunkMask, chunks[dp >>> chunkBits], dp & chunkMask, n);
+                done += n;
+            }
+        } else {
+            for (int remaining = length; remaining > 0; ) {
+                int sp = offset + srcIndex + remaining;
+                int dp = offset + destIndex + remaining;
+                int n = Math.min(remaining, Math.min(((sp - 1) & chunkMask) + 1, ((dp - 1) & chunkMask) + 1));
+                sp -= n;
+                dp -= n;
+                System.arraycopy(chunks[sp >>> chunkBits], sp & chunkMask, chunks[dp >>> chunkBits], dp & chunkMask, n);
+                remaining -= n;
+            }
+        }
+    }
+
+    /**
+     * Clears the slots of the elements [fromIndex, toIndex) so they do not keep garbage alive.
+     */
+    private void clear(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; ) {
+            int p = offset + i;
+            int n = Math.min(toIndex - i, chunkSize - (p & chunkMask));
+            Arrays.fill(chunks[p >>> chunkBits], p & chunkMask, (p & chunkMask) + n, null);
+            i += n;
+        }
+    }
+
+    /**
+     * Copies the elements [fromIndex, toIndex) into dest starting at destPos.
+     */
+    private void copyTo(int fromIndex, int toIndex, Object[] dest, int destPos) {
+        for (int i = fromIndex; i < toIndex; ) {
+            int p = offset + i;
+            int n = Math.min(toIndex - i, chunkSize - (p & chunkMask));
+            System.arraycopy(chunks[p >>> chunkBits], p & chunkMask, dest, destPos, n);
+            destPos += n;
+            i += n;
+        }
+    }
+
+    /**
+     * Appends source[fromIndex, toIndex) a chunk at a time.
+     */
+    @SuppressWarnings("unchecked")
+    private void appendRange(DynamicArrayADT<J> source, int fromIndex, int toIndex) {
+        ensureChunks(offset + size + (toIndex - fromIndex));
+        for (int i = fromIndex; i < toIndex; ) {
+            int p = offset + size;
+            int n = Math.min(toIndex - i, chunkSize - (p & chunkMask));
+            Object[] chunk = chunks[p >>> chunkBits];
+            if (source instanceof SegmentedDynamicArray) {
+                ((SegmentedDynamicArray<J>) source).copyTo(i, i + n, chunk, p & chunkMask);
+            } else {
+                DynamicArray.copyRange(source, i, i + n, (J[]) chunk, p & chunkMask);
+            }
+            size += n;
+            i += n;
+        }
+    }
+
+    /**
+     * Removes [fromIndex, toIndex) by moving whichever side of it is shorter.
+     */
+    private void removeRange(int fromIndex, int toIndex) {
+        int removed = toIndex - fromIndex;
+        if (fromIndex < size - toIndex) {
+            move(0, removed, fromIndex);
+            clear(0, removed);
+            offset += removed;
+        } else {
+            move(toIndex, fromIndex, size - toIndex);
+            clear(size - removed, size);
+        }
+        size -= removed;
+        releaseChunks();
+    }
+
+    /**
+     * Returns the number of chunks currently allocated.
+     * @return returns the chunk count
+     */
+    public int chunkCount() {
+        return chunkCount;
+    }
+
+    // ~*~ DynamicArrayADT ~*~
+
+    @Override
+    public J get(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        return slot(index);
+    }
+
+    @Override
+    public J set(int index, J value) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        J oldValue = slot(index);
+        put(index, value);
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, J value) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        if (index < size / 2) {
+            if (offset == 0) {
+                prependChunk();
+            }
+            offset--;
+            move(1, 0, index);
+        } else {
+            ensureChunks(offset + size + 1);
+            move(index, index + 1, size - index);
+        }
+        size++;
+        put(index, value);
+    }
+
+    @Override
+    public void add(J value) {
+        ensureChunks(offset + size + 1);
+        put(size, value);
+        size++;
+    }
+
+    @Override
+    public J remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        J removedValue = slot(index);
+        removeRange(index, index + 1);
+        return removedValue;
+    }
+
+    @Override
+    public SegmentedDynamicArray<J> delete(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+        SegmentedDynamicArray<J> newArray = derive(size - (toIndex - fromIndex));
+        newArray.appendRange(this, 0, fromIndex);
+        newArray.appendRange(this, toIndex, size);
+        return newArray;
+    }
+
+    @Override
+    public SegmentedDynamicArray<J> append(DynamicArrayADT<J> other) {
+        int otherSize = other.size();
+        SegmentedDynamicArray<J> newArray = derive(size + otherSize);
+        newArray.appendRange(this, 0, size);
+        newArray.appendRange(other, 0, otherSize);
+        return newArray;
+    }
+
+    @Override
+    public SegmentedDynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        int otherSize = other.size();
+        SegmentedDynamicArray<J> newArray = derive(size + otherSize);
+        newArray.appendRange(this, 0, index);
+        newArray.appendRange(other, 0, otherSize);
+        newArray.appendRange(this, index, size);
+        return newArray;
+    }
+
+    @Override
+    public SegmentedDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid fromIndex or toIndex.");
+        }
+        SegmentedDynamicArray<J> newArray = derive(toIndex - fromIndex);
+        newArray.appendRange(this, fromIndex, toIndex);
+        return newArray;
+    }
+
+    @Override
+    public SegmentedDynamicArray<J> extract(int fromIndex, int toIndex) {
+        SegmentedDynamicArray<J> extracted = sublist(fromIndex, toIndex);
+        removeRange(fromIndex, toIndex);
+        return extracted;
+    }
+
+    /**
+     * Removes the elements before index and returns them. The chunks wholly before index
+     * move to the returned array by reference; only the chunk holding index is copied.
+     */
+    @Override
+    public SegmentedDynamicArray<J> splitPrefix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        if (index == 0) {
+            return derive(0);
+        }
+        int p = offset + index;
+        int whole = p >>> chunkBits;
+        int cut = p & chunkMask;
+        SegmentedDynamicArray<J> prefix = derive(0);
+        prefix.chunks = new Object[whole + 1][];
+        System.arraycopy(chunks, 0, prefix.chunks, 0, whole);
+        prefix.chunkCount = whole;
+        if (cut > 0) {
+            Object[] boundary = chunks[whole];
+            prefix.chunks[whole] = Arrays.copyOf(boundary, chunkSize);
+            Arrays.fill(prefix.chunks[whole], cut, chunkSize, null);
+            prefix.chunkCount++;
+            Arrays.fill(boundary, 0, cut, null);
+        }
+        prefix.offset = offset;
+        prefix.size = index;
+
+        System.arraycopy(chunks, whole, chunks, 0, chunkCount - whole);
+        Arrays.fill(chunks, chunkCount - whole, chunkCount, null);
+        chunkCount -= whole;
+        offset = cut;
+        size -= index;
+        if (chunkCount == 0) {
+            offset = 0;
+        }
+        return prefix;
+    }
+
+    /**
+     * Removes the elements from index on and returns them. The chunks wholly after index
+     * move to the returned array by reference; only the chunk holding index is copied.
+     */
+    @Override
+    public SegmentedDynamicArray<J> splitSuffix(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index.");
+        }
+        if (index == size) {
+            return derive(0);
+        }
+        int p = offset + index;
+        int first = p >>> chunkBits;
+        int cut = p & chunkMask;
+        int end = Math.min(chunkCount, (offset + size + chunkMask) >>> chunkBits);
+        SegmentedDynamicArray<J> suffix = derive(0);
+        suffix.chunks = new Object[end - first][];
+        int moveFrom = first;
+        if (cut > 0) {
+            Object[] boundary = chunks[first];
+            suffix.chunks[0] = Arrays.copyOf(boundary, chunkSize);
+            Arrays.fill(suffix.chunks[0], 0, cut, null);
+            Arrays.fill(boundary, cut, chunkSize, null);
+            moveFrom++;
+        }
+        System.arraycopy(chunks, moveFrom, suffix.chunks, moveFrom - first, end - moveFrom);
+        suffix.chunkCount = end - first;
+        suffix.offset = cut;
+        suffix.size = size - index;
+
+        Arrays.fill(chunks, moveFrom, chunkCount, null);
+        chunkCount = Math.min(chunkCount, moveFrom);
+        size = index;
+        return suffix;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(slot(i));
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,138 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the SegmentedDynamicArray class.
+ * Inherits every DynamicArrayTest case using 4-element chunks, then checks chunk
+ * handling against a java.util.List.
+ */
+public class SegmentedDynamicArrayTest extends DynamicArrayTest {
+
+    @Override
+    public DynamicArrayADT<Character> newArray(int initialCapacity) {
+        return new SegmentedDynamicArray<>(initialCapacity, 2);
+    }
+
+    // Compare contents against a java.util.List
+    public void compareToList(DynamicArrayADT<Integer> arr, List<Integer> expected) {
+        assertEquals(expected.size(), arr.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Mismatch at index " + i, expected.get(i), arr.get(i));
+        }
+    }
+
+    public SegmentedDynamicArray<Integer> range(int n) {
+        SegmentedDynamicArray<Integer> result = new SegmentedDynamicArray<>(0, 3);
+        for (int i = 0; i < n; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    // ~*~ Chunks ~*~
+    @Test
+    public void testGrowthAllocatesOneChunkAtATime() {
+        SegmentedDynamicArray<Integer> arr = range(0);
+        for (int i = 0; i < 64; i++) {
+            arr.add(i);
+            assertEquals((i + 8) / 8, arr.chunkCount());
+        }
+    }
+
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(23);
+        SegmentedDynamicArray<Integer> arr = range(0);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 4000; step++) {
+            int op = random.nextInt(5);
+            if (op == 0 || expected.isEmpty()) {
+                arr.add(step);
+                expected.add(step);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                arr.add(index, step);
+                expected.add(index, step);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), arr.remove(index));
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, step), arr.set(index, step));
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(Math.min(20, expected.size() - from) + 1);
+                List<Integer> removed = new ArrayList<>(expected.subList(from, to));
+                compareToList(arr.extract(from, to), removed);
+                expected.subList(from, to).clear();
+            }
+        }
+        compareToList(arr, expected);
+    }
+
+    @Test
+    public void testQueueDropsLeadingChunks() {
+        SegmentedDynamicArray<Integer> queue = range(0);
+        for (int i = 0; i < 1000; i++) {
+            queue.add(i);
+            if (queue.size() > 10) {
+                assertEquals(Integer.valueOf(i - 10), queue.remove(0));
+            }
+        }
+        assertEquals(10, queue.size());
+        assertTrue(queue.chunkCount() <= 3);
+        assertEquals(Integer.valueOf(990), queue.get(0));
+    }
+
+    @Test
+    public void testSplitsMoveChunks() {
+        for (int at = 0; at <= 40; at++) {
+            SegmentedDynamicArray<Integer> arr = range(40);
+            // Start element 0 part way into its chunk
+            arr.remove(0);
+            arr.add(-1);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                expected.add(arr.get(i));
+            }
+            SegmentedDynamicArray<Integer> prefix = arr.splitPrefix(at);
+            compareToList(prefix, expected.subList(0, at));
+            compareToList(arr, expected.subList(at, 40));
+            prefix.add(100);
+            arr.add(0, 200);
+            arr.add(300);
+            assertEquals(Integer.valueOf(100), prefix.get(at));
+            assertEquals(Integer.valueOf(200), arr.get(0));
+
+            SegmentedDynamicArray<Integer> whole = range(40);
+            SegmentedDynamicArray<Integer> suffix = whole.splitSuffix(at);
+            compareToList(whole, range(at).asList());
+            assertEquals(40 - at, suffix.size());
+            whole.add(-5);
+            suffix.add(0, -6);
+            assertEquals(Integer.valueOf(-5), whole.get(at));
+            assertEquals(Integer.valueOf(-6), suffix.get(0));
+            if (at < 40) {
+                assertEquals(Integer.valueOf(at), suffix.get(1));
+            }
+        }
+    }
+
+    @Test
+    public void testBulkOperations() {
+        SegmentedDynamicArray<Integer> a = range(30);
+        DynamicArray<Integer> b = new DynamicArray<>(5);
+        for (int i = 0; i < 5; i++) {
+            b.add(-i);
+        }
+        List<Integer> expected = new ArrayList<>(a.asList());
+        expected.addAll(7, b.asList());
+        compareToList(a.insert(7, b), expected);
+        compareToList(a.append(a).sublist(25, 35), List.of(25, 26, 27, 28, 29, 0, 1, 2, 3, 4));
+        compareToList(a.delete(2, 28), List.of(0, 1, 28, 29));
+    }
+}
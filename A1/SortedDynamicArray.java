@@ -0,0 +1,272 @@
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A dynamic array that keeps its elements sorted by a comparator. add(value) finds its
+ * place by binary search instead of a linear scan, and lookups by value are binary
+ * searches too. Positional adds and sets are allowed only where they keep the order.
+ * <p>
+ * delete, sublist, extract and the splits keep the order, so they return sorted arrays;
+ * append and insert may not, so they return plain DynamicArrays. Use addAll to merge
+ * another array in while staying sorted.
+ * @param <J> the type of elements stored in the array
+ */
+public class SortedDynamicArray<J> implements DynamicArrayADT<J> {
+    private final Comparator<? super J> comparator;
+    private DynamicArray<J> elements;
+
+    /**
+     * Constructs an empty SortedDynamicArray ordered by comparator.
+     * @param comparator the order to keep, or null for the elements' natural order
+     */
+    public SortedDynamicArray(Comparator<? super J> comparator) {
+        this(new DynamicArray<>(10), comparator);
+    }
+
+    /**
+     * Constructs a SortedDynamicArray holding the elements of other, sorted by comparator.
+     * @param other the elements to start with
+     * @param comparator the order to keep, or null for the elements' natural order
+     */
+    public SortedDynamicArray(DynamicArrayADT<J> other, Comparator<? super J> comparator) {
+        this(DynamicArray.concat(other), comparator);
+        elements.sort(comparator);
+    }
+
+    private SortedDynamicArray(DynamicArray<J> elements, Comparator<? super J> comparator) {
+        this.elements = elements;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the order this array keeps.
+     * @return returns the comparator, or null for natural order
+     */
+    public Comparator<? super J> comparator() {
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(J a, J b) {
+        return comparator != null ? comparator.compare(a, b) : ((Comparable<? super J>) a).compareTo(b);
+    }
+
+    /**
+     * Returns the first index whose element is not less than key, or with upper set,
+     * the first index whose element is greater than key.
+     */
+    private int bound(J key, boolean upper) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int c = compare(elements.get(mid), key);
+            if (c < 0 || (upper && c == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns whether value may sit between the elements at before and after.
+     */
+    private boolean fits(J value, int before, int after) {
+        return (before < 0 || compare(elements.get(before), value) <= 0)
+                && (after >= elements.size() || compare(value, elements.get(after)) <= 0);
+    }
+
+    /**
+     * Searches for key by binary search.
+     * If several elements compare equal to key, any one of them may be found.
+     * @param key the value to search for
+     * @return returns the index of key if present, and otherwise (-(insertion point) - 1)
+     */
+    public int binarySearch(J key) {
+        return elements.binarySearch(key, comparator);
+    }
+
+    /**
+     * Returns the index of the first element equal to value, or -1 if there is none.
+     * Only the elements that compare equal to value are checked with equals. null, and a
+     * value whose class is unrelated to the elements', are never passed to the comparator:
+     * the array is scanned with equals instead, so they are found only if present and never
+     * cause an exception. Exceptions thrown by the comparator itself are not caught.
+     * @param value the value to look for, may be null
+     * @return returns the lowest index holding value, or -1
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object value) {
+        if (!comparable(value)) {
+            return elements.indexOf(value);
+        }
+        J key = (J) value;
+        int n = elements.size();
+        for (int i = bound(key, false); i < n && compare(elements.get(i), key) == 0; i++) {
+            if (Objects.equals(key, elements.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether value can safely be compared with the elements: it is not null and its
+     * class and the first element's class are one a subclass of the other.
+     */
+    private boolean comparable(Object value) {
+        if (value == null || elements.size() == 0) {
+            return false;
+        }
+        Object first = elements.get(0);
+        return first != null && (first.getClass().isInstance(value) || value.getClass().isInstance(first));
+    }
+
+    @Override
+    public J get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Replaces the element at index, which must keep the array sorted.
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    @Override
+    public J set(int index, J value) {
+        if (index < 0 || index >= elements.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        if (!fits(value, index - 1, index + 1)) {
+            throw new IllegalArgumentException("The value does not belong at index " + index + ".");
+        }
+        return elements.set(index, value);
+    }
+
+    /**
+     * Inserts value at index, which must keep the array sorted.
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    @Override
+    public void add(int index, J value) {
+        if (index < 0 || index > elements.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + " is out of bounds.");
+        }
+        if (!fits(value, index - 1, index)) {
+            throw new IllegalArgumentException("The value does not belong at index " + index + ".");
+        }
+        elements.add(index, value);
+    }
+
+    /**
+     * Inserts value at its place in the order, after any elements that compare equal to it.
+     */
+    @Override
+    public void add(J value) {
+        elements.add(bound(value, true), value);
+    }
+
+    /**
+     * Merges the elements of other into this array. other is copied and sorted, then both are
+     * merged in one pass, which beats adding the elements one at a time once other is large.
+     * Equal elements from other go after those already here.
+     * @param other the elements to add
+     */
+    public void addAll(DynamicArrayADT<J> other) {
+        DynamicArray<J> incoming = DynamicArray.concat(other);
+        incoming.sort(comparator);
+        int n = elements.size();
+        int m = incoming.size();
+        DynamicArray<J> merged = new DynamicArray<>(n + m, elements.getGrowthPolicy());
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (compare(incoming.get(j), elements.get(i)) < 0) {
+                merged.add(incoming.get(j++));
+            } else {
+                merged.add(elements.get(i++));
+            }
+        }
+        while (i < n) {
+            merged.add(elements.get(i++));
+        }
+        while (j < m) {
+            merged.add(incoming.get(j++));
+        }
+        elements = merged;
+    }
+
+    @Override
+    public J remove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes the first element equal to value.
+     * @param value the value to remove
+     * @return returns true if an element was removed
+     */
+    public boolean removeValue(J value) {
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        elements.remove(index);
+        return true;
+    }
+
+    @Override
+    public DynamicArray<J> append(DynamicArrayADT<J> other) {
+        return elements.append(other);
+    }
+
+    @Override
+    public DynamicArray<J> insert(int index, DynamicArrayADT<J> other) {
+        return elements.insert(index, other);
+    }
+
+    @Override
+    public SortedDynamicArray<J> sublist(int fromIndex, int toIndex) {
+        return new SortedDynamicArray<>(elements.sublistInto(fromIndex, toIndex, new DynamicArray<>(0)), comparator);
+    }
+
+    @Override
+    public SortedDynamicArray<J> delete(int fromIndex, int toIndex) {
+        return new SortedDynamicArray<>(elements.delete(fromIndex, toIndex), comparator);
+    }
+
+    @Override
+    public SortedDynamicArray<J> extract(int fromIndex, int toIndex) {
+        return new SortedDynamicArray<>(elements.extract(fromIndex, toIndex), comparator);
+    }
+
+    @Override
+    public SortedDynamicArray<J> splitPrefix(int index) {
+        return new SortedDynamicArray<>(elements.splitPrefixInto(index, new DynamicArray<>(0)), comparator);
+    }
+
+    @Override
+    public SortedDynamicArray<J> splitSuffix(int index) {
+        return new SortedDynamicArray<>(elements.splitSuffixInto(index, new DynamicArray<>(0)), comparator);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns a DynamicArray holding a copy of the elements in order.
+     * @return returns the copy
+     */
+    public DynamicArray<J> toDynamicArray() {
+        return new DynamicArray<>(elements);
+    }
+
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+}
@@ -0,0 +1,174 @@
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for SortedDynamicArray.
+ */
+public class SortedDynamicArrayTest {
+
+    // Helper: builds sorted array from string
+    public SortedDynamicArray<Character> stringToSorted(String s) {
+        SortedDynamicArray<Character> result = new SortedDynamicArray<>(null);
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    @Test
+    public void testAddKeepsOrder() {
+        SortedDynamicArray<Character> arr = stringToSorted("dbeacb");
+        assertEquals("[a, b, b, c, d, e]", arr.toString());
+        assertEquals(6, arr.size());
+        assertEquals(Character.valueOf('a'), arr.get(0));
+    }
+
+    @Test
+    public void testEqualElementsKeepInsertionOrder() {
+        SortedDynamicArray<String> arr = new SortedDynamicArray<>(Comparator.comparingInt(String::length));
+        arr.add("bb");
+        arr.add("a");
+        arr.add("cc");
+        arr.add("dd");
+        assertEquals("[a, bb, cc, dd]", arr.toString());
+        assertEquals(2, arr.indexOf("cc"));
+        assertEquals(-1, arr.indexOf("ee"));
+        assertTrue(arr.binarySearch("zz") >= 1);
+    }
+
+    @Test
+    public void testSearch() {
+        SortedDynamicArray<Character> arr = stringToSorted("aceg");
+        assertEquals(2, arr.binarySearch('e'));
+        assertEquals(-3, arr.binarySearch('d'));
+        assertEquals(1, arr.indexOf('c'));
+        assertTrue(arr.contains('g'));
+        assertFalse(arr.contains('b'));
+        assertTrue(arr.removeValue('c'));
+        assertFalse(arr.removeValue('c'));
+        assertEquals("[a, e, g]", arr.toString());
+    }
+
+    @Test
+    public void testLookupOfIncomparableValues() {
+        SortedDynamicArray<Character> arr = stringToSorted("aceg");
+        assertEquals(-1, arr.indexOf(null));
+        assertFalse(arr.contains(null));
+        assertFalse(arr.contains("c"));
+        assertFalse(arr.contains(3));
+        assertFalse(arr.asList().contains(null));
+        assertFalse(arr.asList().contains("c"));
+        assertEquals(-1, arr.asList().indexOf(3));
+
+        SortedDynamicArray<String> byLength = new SortedDynamicArray<>(Comparator.comparingInt(String::length));
+        byLength.add("bb");
+        assertFalse(byLength.contains(null));
+        assertFalse(byLength.contains('b'));
+
+        SortedDynamicArray<String> nullsFirst = new SortedDynamicArray<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        nullsFirst.add("b");
+        nullsFirst.add(null);
+        assertEquals(0, nullsFirst.indexOf(null));
+        assertTrue(nullsFirst.contains("b"));
+    }
+
+    @Test
+    public void testComparatorExceptionsAreNotSwallowed() {
+        SortedDynamicArray<String> arr = new SortedDynamicArray<>((a, b) -> {
+            if (a.equals("bad") || b.equals("bad")) {
+                throw new ClassCastException("Comparator bug");
+            }
+            return a.compareTo(b);
+        });
+        arr.add("a");
+        arr.add("c");
+        assertThrows(ClassCastException.class, () -> arr.indexOf("bad"));
+        assertEquals(1, arr.indexOf("c"));
+    }
+
+    @Test
+    public void testPositionalEditsMustKeepOrder() {
+        SortedDynamicArray<Character> arr = stringToSorted("aceg");
+        arr.set(1, 'd');
+        arr.add(4, 'z');
+        arr.add(0, 'a');
+        assertEquals("[a, a, d, e, g, z]", arr.toString());
+        try {
+            arr.set(1, 'f');
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 'f' would come before 'd'
+        }
+        try {
+            arr.add(0, 'b');
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 'b' would come before 'a'
+        }
+        assertEquals("[a, a, d, e, g, z]", arr.toString());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testSetOutOfBounds() {
+        stringToSorted("abc").set(3, 'z');
+    }
+
+    @Test
+    public void testAddAllMerges() {
+        SortedDynamicArray<Character> arr = stringToSorted("aceg");
+        DynamicArray<Character> other = new DynamicArray<>(4);
+        other.add('f');
+        other.add('b');
+        other.add('h');
+        other.add('a');
+        arr.addAll(other);
+        assertEquals("[a, a, b, c, e, f, g, h]", arr.toString());
+    }
+
+    @Test
+    public void testAddAllMatchesSingleAdds() {
+        Random random = new Random(7);
+        SortedDynamicArray<Integer> merged = new SortedDynamicArray<>(null);
+        SortedDynamicArray<Integer> single = new SortedDynamicArray<>(null);
+        for (int round = 0; round < 20; round++) {
+            DynamicArray<Integer> batch = new DynamicArray<>(10);
+            for (int i = 0; i < 10; i++) {
+                int value = random.nextInt(50);
+                batch.add(value);
+                single.add(value);
+            }
+            merged.addAll(batch);
+        }
+        assertEquals(single.toString(), merged.toString());
+    }
+
+    @Test
+    public void testDerivedArrays() {
+        SortedDynamicArray<Character> arr = stringToSorted("abcdef");
+        assertEquals("[b, c]", arr.sublist(1, 3).toString());
+        assertEquals("[a, f]", arr.delete(1, 5).toString());
+        SortedDynamicArray<Character> prefix = arr.splitPrefix(2);
+        assertEquals("[a, b]", prefix.toString());
+        prefix.add('0');
+        assertEquals("[0, a, b]", prefix.toString());
+        assertEquals("[e, f]", arr.splitSuffix(2).toString());
+        assertEquals("[c, d]", arr.toString());
+        assertEquals("[c, d, a]", arr.append(stringToSorted("a")).toString());
+    }
+
+    @Test
+    public void testCopyConstructorSorts() {
+        DynamicArray<Character> source = new DynamicArray<>(3);
+        source.add('c');
+        source.add('a');
+        source.add('b');
+        SortedDynamicArray<Character> arr = new SortedDynamicArray<>(source, Comparator.reverseOrder());
+        assertEquals("[c, b, a]", arr.toString());
+        arr.add('d');
+        assertEquals("[d, c, b, a]", arr.toString());
+        assertEquals("[c, a, b]", source.toString());
+    }
+}
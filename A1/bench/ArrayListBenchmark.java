@@ -0,0 +1,161 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Baseline for DynamicArrayBenchmark: the same operations, sizes and positions
+ * expressed with java.util.ArrayList. The functional operations copy into a new
+ * ArrayList so that both sides allocate the same result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArrayListBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"FRONT", "MIDDLE", "BACK"})
+    public DynamicArrayBenchmark.Position position;
+
+    ArrayList<Integer> list;
+    ArrayList<Integer> other;
+    int index;
+    int fromIndex;
+    int toIndex;
+
+    /**
+     * Builds the lists and indices shared by every benchmark in a trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = filled(size);
+        other = filled(Math.max(1, size / 10));
+        index = position.indexFor(size);
+        int rangeLength = size / 4;
+        fromIndex = position.rangeStartFor(size, rangeLength);
+        toIndex = fromIndex + rangeLength;
+    }
+
+    /**
+     * A fresh copy of the shared list for operations that mutate it destructively.
+     */
+    @State(Scope.Thread)
+    public static class Scratch {
+        ArrayList<Integer> list;
+
+        /**
+         * Copies the shared list before every invocation, outside the measured time.
+         * @param benchmark the benchmark state holding the list to copy
+         */
+        @Setup(Level.Invocation)
+        public void setUp(ArrayListBenchmark benchmark) {
+            list = new ArrayList<>(benchmark.list);
+        }
+    }
+
+    static ArrayList<Integer> filled(int n) {
+        ArrayList<Integer> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(index);
+    }
+
+    @Benchmark
+    public Integer set() {
+        return list.set(index, index);
+    }
+
+    @Benchmark
+    public Integer addLast() {
+        list.add(index);
+        return list.remove(list.size() - 1);
+    }
+
+    @Benchmark
+    public Integer addAtIndex() {
+        list.add(index, index);
+        return list.remove(list.size() - 1);
+    }
+
+    @Benchmark
+    public Integer removeAtIndex() {
+        Integer removed = list.remove(index);
+        list.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public List<Integer> append() {
+        ArrayList<Integer> result = new ArrayList<>(list.size() + other.size());
+        result.addAll(list);
+        result.addAll(other);
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> insert() {
+        ArrayList<Integer> result = new ArrayList<>(list.size() + other.size());
+        result.addAll(list);
+        result.addAll(index, other);
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> sublist() {
+        return new ArrayList<>(list.subList(fromIndex, toIndex));
+    }
+
+    @Benchmark
+    public List<Integer> delete() {
+        ArrayList<Integer> result = new ArrayList<>(list);
+        result.subList(fromIndex, toIndex).clear();
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> extract(Scratch scratch) {
+        List<Integer> range = scratch.list.subList(fromIndex, toIndex);
+        ArrayList<Integer> result = new ArrayList<>(range);
+        range.clear();
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> splitPrefix(Scratch scratch) {
+        List<Integer> range = scratch.list.subList(0, index);
+        ArrayList<Integer> result = new ArrayList<>(range);
+        range.clear();
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> splitSuffix(Scratch scratch) {
+        List<Integer> range = scratch.list.subList(index, scratch.list.size());
+        ArrayList<Integer> result = new ArrayList<>(range);
+        range.clear();
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the DynamicArray, ArrayList and metrics-overhead benchmarks with the GC profiler attached,
+ * so every result also reports allocation rate and bytes allocated per operation.
+ * Any standard JMH command-line option (for example -p size=1000) is passed through.
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(DynamicArrayBenchmark.class.getSimpleName())
+                .include(ArrayListBenchmark.class.getSimpleName())
+                .include(DynamicArrayMetricsBenchmark.class.getSimpleName())
+                .include(SegmentedDynamicArrayBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,192 @@
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for every DynamicArrayADT operation on DynamicArray.
+ * Each operation is measured for every size and for an index at the front,
+ * middle and back of the array. ArrayListBenchmark runs the same matrix
+ * against java.util.ArrayList as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DynamicArrayBenchmark {
+
+    /**
+     * Where in the array an indexed operation takes place.
+     */
+    public enum Position {
+        FRONT, MIDDLE, BACK;
+
+        /**
+         * Returns the index for a single-element operation on an array of the given size.
+         * @param size the number of elements in the array
+         * @return returns an index in [0, size)
+         */
+        public int indexFor(int size) {
+            switch (this) {
+                case FRONT:
+                    return 0;
+                case MIDDLE:
+                    return size / 2;
+                default:
+                    return size - 1;
+            }
+        }
+
+        /**
+         * Returns the start of a range of the given length on an array of the given size.
+         * @param size the number of elements in the array
+         * @param length the length of the range
+         * @return returns a start index such that start + length is at most size
+         */
+        public int rangeStartFor(int size, int length) {
+            switch (this) {
+                case FRONT:
+                    return 0;
+                case MIDDLE:
+                    return (size - length) / 2;
+                default:
+                    return size - length;
+            }
+        }
+    }
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"FRONT", "MIDDLE", "BACK"})
+    public Position position;
+
+    DynamicArray<Integer> array;
+    DynamicArray<Integer> other;
+    int index;
+    int fromIndex;
+    int toIndex;
+
+    /**
+     * Builds the arrays and indices shared by every benchmark in a trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        array = filled(size);
+        other = filled(Math.max(1, size / 10));
+        index = position.indexFor(size);
+        int rangeLength = size / 4;
+        fromIndex = position.rangeStartFor(size, rangeLength);
+        toIndex = fromIndex + rangeLength;
+    }
+
+    /**
+     * A fresh copy of the shared array for operations that mutate it destructively.
+     */
+    @State(Scope.Thread)
+    public static class Scratch {
+        DynamicArray<Integer> array;
+
+        /**
+         * Copies the shared array before every invocation, outside the measured time.
+         * @param benchmark the benchmark state holding the array to copy
+         */
+        @Setup(Level.Invocation)
+        public void setUp(DynamicArrayBenchmark benchmark) {
+            array = new DynamicArray<>(benchmark.array);
+        }
+    }
+
+    static DynamicArray<Integer> filled(int n) {
+        DynamicArray<Integer> result = new DynamicArray<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer get() {
+        return array.get(index);
+    }
+
+    @Benchmark
+    public Integer set() {
+        return array.set(index, index);
+    }
+
+    /**
+     * Appends at the end; the trailing remove keeps the size stable and is O(1).
+     */
+    @Benchmark
+    public Integer addLast() {
+        array.add(index);
+        return array.remove(array.size() - 1);
+    }
+
+    /**
+     * Inserts at the position; the trailing remove keeps the size stable and is O(1).
+     */
+    @Benchmark
+    public Integer addAtIndex() {
+        array.add(index, index);
+        return array.remove(array.size() - 1);
+    }
+
+    /**
+     * Removes at the position; the trailing add keeps the size stable and is O(1).
+     */
+    @Benchmark
+    public Integer removeAtIndex() {
+        Integer removed = array.remove(index);
+        array.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public DynamicArrayADT<Integer> append() {
+        return array.append(other);
+    }
+
+    @Benchmark
+    public DynamicArrayADT<Integer> insert() {
+        return array.insert(index, other);
+    }
+
+    @Benchmark
+    public DynamicArrayADT<Integer> sublist() {
+        return array.sublist(fromIndex, toIndex);
+    }
+
+    @Benchmark
+    public DynamicArrayADT<Integer> delete() {
+        return array.delete(fromIndex, toIndex);
+    }
+
+    @Benchmark
+    public DynamicArrayADT<Integer> extract(Scratch scratch) {
+        return scratch.array.extract(fromIndex, toIndex);
+    }
+
+    @Benchmark
+    public DynamicArrayADT<Integer> splitPrefix(Scratch scratch) {
+        return scratch.array.splitPrefix(index);
+    }
+
+    @Benchmark
+    public DynamicArrayADT<Integer> splitSuffix(Scratch scratch) {
+        return scratch.array.splitSuffix(index);
+    }
+}
@@ -0,0 +1,79 @@
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the cost of DynamicArrayMetrics on the hot paths.
+ * OFF runs with no metrics attached and should match DynamicArrayBenchmark;
+ * ON shows what the counters add to each operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DynamicArrayMetricsBenchmark {
+
+    @Param({"OFF", "ON"})
+    public String metrics;
+
+    @Param({"1000"})
+    public int size;
+
+    DynamicArray<Integer> array;
+    DynamicArray<Integer> other;
+    int index;
+
+    /**
+     * Builds the arrays, attaching fresh metrics when they are ON.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        array = DynamicArrayBenchmark.filled(size);
+        other = DynamicArrayBenchmark.filled(Math.max(1, size / 10));
+        array.setMetrics("ON".equals(metrics) ? new DynamicArrayMetrics() : null);
+        index = size / 2;
+    }
+
+    @Benchmark
+    public Integer addLast() {
+        array.add(index);
+        return array.remove(array.size() - 1);
+    }
+
+    @Benchmark
+    public Integer addAtIndex() {
+        array.add(index, index);
+        return array.remove(array.size() - 1);
+    }
+
+    /**
+     * Starts from an empty array each time, so every growth step is a resize.
+     */
+    @Benchmark
+    public DynamicArray<Integer> growFromEmpty() {
+        DynamicArray<Integer> grown = new DynamicArray<>(0);
+        grown.setMetrics(array.getMetrics());
+        for (int i = 0; i < size; i++) {
+            grown.add(i);
+        }
+        return grown;
+    }
+
+    @Benchmark
+    public DynamicArrayADT<Integer> append() {
+        return array.append(other);
+    }
+}
@@ -0,0 +1,58 @@
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the latency of add(J) on DynamicArray and SegmentedDynamicArray.
+ * Runs in SampleTime mode, so the results include percentiles: the p99.9 and p100 of
+ * DynamicArray show the full-copy resizes, which SegmentedDynamicArray replaces with
+ * allocating one chunk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SegmentedDynamicArrayBenchmark {
+
+    @Param({"DYNAMIC", "SEGMENTED"})
+    public String kind;
+
+    @Param({"10000000"})
+    public int size;
+
+    DynamicArrayADT<Integer> array;
+
+    /**
+     * Starts each iteration from an empty array, which then grows to size and is cleared again.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        array = newArray();
+    }
+
+    private DynamicArrayADT<Integer> newArray() {
+        return "SEGMENTED".equals(kind) ? new SegmentedDynamicArray<>(0) : new DynamicArray<>(0);
+    }
+
+    @Benchmark
+    public int addLast() {
+        if (array.size() == size) {
+            array = newArray();
+        }
+        array.add(size);
+        return array.size();
+    }
+}